@@ -0,0 +1,16 @@
+#!/usr/bin/env sh
+# Builds the benchmark jar and writes JMH results as JSON to results/<commit>.json, so runs on
+# different commits can be compared side by side. Extra arguments go to JMH, e.g.
+#   ./run-benchmarks.sh SerializationBenchmark -p tasksPerProject=100
+set -e
+cd "$(dirname "$0")"
+
+mvn -B -q -f ../pom.xml install -DskipTests
+mvn -B -q package -DskipTests
+commit=$(git rev-parse --short HEAD 2>/dev/null || echo local)
+if [ -n "$(git status --porcelain -- ../src 2>/dev/null)" ]; then
+    commit="$commit-dirty"
+fi
+mkdir -p results
+java -jar target/benchmarks.jar -rf json -rff "results/$commit.json" "$@"
+echo "Results written to results/$commit.json"
@@ -0,0 +1,142 @@
+package com.projectmanagement.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.config.JacksonConfig;
+import com.projectmanagement.model.Comment;
+import com.projectmanagement.model.Project;
+import com.projectmanagement.model.ProjectMember;
+import com.projectmanagement.model.Task;
+import com.projectmanagement.model.User;
+import com.projectmanagement.model.Workspace;
+import com.projectmanagement.model.WorkspaceMember;
+import com.projectmanagement.model.enums.Priority;
+import com.projectmanagement.model.enums.TaskStatus;
+import com.projectmanagement.model.enums.TaskType;
+import com.projectmanagement.model.enums.WorkspaceRole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.TimeZone;
+
+// Entity graphs shaped like the ones the API serializes, built in memory so that only
+// serialization is measured
+final class BenchmarkFixtures {
+    
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 4, 9, 30);
+    
+    private BenchmarkFixtures() {
+    }
+    
+    // Same configuration as the application: Boot's builder settings from application.yml plus JacksonConfig
+    static ObjectMapper objectMapper() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .timeZone(TimeZone.getTimeZone("UTC"))
+                .findModulesViaServiceLoader(true);
+        return new JacksonConfig().objectMapper(builder);
+    }
+    
+    static List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setId("user-" + i);
+            user.setName("User " + i);
+            user.setEmail("user" + i + "@example.com");
+            user.setImage("");
+            user.setCreatedAt(NOW);
+            user.setUpdatedAt(NOW);
+            users.add(user);
+        }
+        return users;
+    }
+    
+    static Workspace workspace(List<User> users, int projects, int tasksPerProject, int commentsPerTask) {
+        Workspace workspace = new Workspace();
+        workspace.setId("workspace-0");
+        workspace.setName("Platform Team");
+        workspace.setSlug("platform-team");
+        workspace.setDescription("Everything the platform team ships");
+        workspace.setSettings(new HashMap<>());
+        workspace.setOwnerId(users.get(0).getId());
+        workspace.setOwner(users.get(0));
+        workspace.setVersion(3L);
+        workspace.setCreatedAt(NOW);
+        workspace.setUpdatedAt(NOW);
+        
+        for (int i = 0; i < users.size(); i++) {
+            WorkspaceMember member = new WorkspaceMember();
+            member.setId("workspace-member-" + i);
+            member.setUserId(users.get(i).getId());
+            member.setWorkspaceId(workspace.getId());
+            member.setRole(i == 0 ? WorkspaceRole.ADMIN : WorkspaceRole.MEMBER);
+            member.setMessage("");
+            workspace.getMembers().add(member);
+        }
+        for (int i = 0; i < projects; i++) {
+            workspace.getProjects().add(project(workspace, users, i, tasksPerProject, commentsPerTask));
+        }
+        return workspace;
+    }
+    
+    static Project project(Workspace workspace, List<User> users, int index, int tasks, int commentsPerTask) {
+        Project project = new Project();
+        project.setId("project-" + index);
+        project.setName("Project " + index);
+        project.setDescription("Quarterly goals and the work that backs them");
+        project.setPriority(Priority.values()[index % Priority.values().length]);
+        project.setStartDate(NOW.minusDays(30));
+        project.setEndDate(NOW.plusDays(60));
+        project.setTeamLead(users.get(0).getId());
+        project.setOwner(users.get(0));
+        project.setWorkspaceId(workspace.getId());
+        project.setWorkspace(workspace);
+        project.setProgress(40);
+        project.setVersion(7L);
+        project.setCreatedAt(NOW);
+        project.setUpdatedAt(NOW);
+        
+        for (int i = 0; i < users.size(); i++) {
+            ProjectMember member = new ProjectMember();
+            member.setId(project.getId() + "-member-" + i);
+            member.setUserId(users.get(i).getId());
+            member.setProjectId(project.getId());
+            project.getMembers().add(member);
+        }
+        for (int i = 0; i < tasks; i++) {
+            project.getTasks().add(task(project, users.get(i % users.size()), i, commentsPerTask));
+        }
+        return project;
+    }
+    
+    static Task task(Project project, User assignee, int index, int comments) {
+        Task task = new Task();
+        task.setId(project.getId() + "-task-" + index);
+        task.setProjectId(project.getId());
+        task.setProject(project);
+        task.setTitle("Task " + index + " of " + project.getName());
+        task.setDescription("Reproduce, fix and add a regression check for the reported issue");
+        task.setStatus(TaskStatus.values()[index % TaskStatus.values().length]);
+        task.setType(TaskType.values()[index % TaskType.values().length]);
+        task.setPriority(Priority.values()[index % Priority.values().length]);
+        task.setAssigneeId(assignee.getId());
+        task.setAssignee(assignee);
+        task.setDueDate(NOW.plusDays(index % 30));
+        task.setVersion(2L);
+        task.setCreatedAt(NOW);
+        task.setUpdatedAt(NOW);
+        
+        for (int i = 0; i < comments; i++) {
+            Comment comment = new Comment();
+            comment.setId(task.getId() + "-comment-" + i);
+            comment.setContent("Looked into this, the fix needs a migration as well");
+            comment.setUserId(assignee.getId());
+            comment.setTaskId(task.getId());
+            comment.setCreatedAt(NOW);
+            task.getComments().add(comment);
+        }
+        return task;
+    }
+}
@@ -0,0 +1,148 @@
+package com.projectmanagement.benchmarks;
+
+import com.projectmanagement.security.JwtAuthenticationFilter;
+import com.projectmanagement.security.JwtTokenProvider;
+import com.projectmanagement.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+// Token issuing and verification, and the cost the authentication filter adds to every request:
+// the filter as it was before the verified-token cache, the current filter on a cache miss, and on a hit
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+    
+    private static final String SECRET = "mySecretKeyThatIsAtLeast256BitsLongForHS512AlgorithmToWorkProperly";
+    
+    private JwtTokenProvider tokenProvider;
+    private String token;
+    private JwtAuthenticationFilter cachingFilter;
+    private JwtAuthenticationFilter verifyingFilter;
+    private BaselineFilter baselineFilter;
+    
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, 86400000, 60000);
+        token = tokenProvider.generateToken("user-0");
+        cachingFilter = new JwtAuthenticationFilter(tokenProvider, new VerifiedTokenCache(10000), new SimpleMeterRegistry());
+        // A zero-sized cache never stores anything, so every request pays for full verification
+        verifyingFilter = new JwtAuthenticationFilter(tokenProvider, new VerifiedTokenCache(0), new SimpleMeterRegistry());
+        baselineFilter = new BaselineFilter(SECRET);
+    }
+    
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken("user-0");
+    }
+    
+    @Benchmark
+    public Claims parseClaims() {
+        return tokenProvider.parseClaims(token);
+    }
+    
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+    
+    @Benchmark
+    public Object filterBaseline() throws Exception {
+        return authenticate(baselineFilter);
+    }
+    
+    @Benchmark
+    public Object filterWithCache() throws Exception {
+        return authenticate(cachingFilter);
+    }
+    
+    @Benchmark
+    public Object filterWithoutCache() throws Exception {
+        return authenticate(verifyingFilter);
+    }
+    
+    private Object authenticate(OncePerRequestFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/workspaces");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+    
+    // The authentication path before the verified-token cache: the token was validated and then parsed again
+    // for its subject, and both parses derived the signing key with Keys.hmacShaKeyFor and built a new parser
+    private static class BaselineFilter extends OncePerRequestFilter {
+        
+        private final String secret;
+        
+        BaselineFilter(String secret) {
+            this.secret = secret;
+        }
+        
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+                throws ServletException, IOException {
+            String bearerToken = request.getHeader("Authorization");
+            String token = bearerToken != null && bearerToken.startsWith("Bearer ") ? bearerToken.substring(7) : null;
+            
+            if (token != null && validateToken(token)) {
+                String userId = parse(token).getSubject();
+                UsernamePasswordAuthenticationToken authentication =
+                    new UsernamePasswordAuthenticationToken(userId, null, new ArrayList<>());
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
+            
+            filterChain.doFilter(request, response);
+        }
+        
+        private boolean validateToken(String token) {
+            try {
+                parse(token);
+                return true;
+            } catch (JwtException | IllegalArgumentException e) {
+                return false;
+            }
+        }
+        
+        private Claims parse(String token) {
+            return Jwts.parser()
+                    .verifyWith(Keys.hmacShaKeyFor(secret.getBytes()))
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+        }
+    }
+}
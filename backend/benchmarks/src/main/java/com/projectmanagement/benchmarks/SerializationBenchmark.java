@@ -0,0 +1,87 @@
+package com.projectmanagement.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.dto.CursorPage;
+import com.projectmanagement.dto.WorkspaceSummaryResponse;
+import com.projectmanagement.model.Project;
+import com.projectmanagement.model.Task;
+import com.projectmanagement.model.User;
+import com.projectmanagement.model.Workspace;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Response bodies of the main read endpoints, serialized with the application's ObjectMapper
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+    
+    @Param({"10", "100"})
+    private int tasksPerProject;
+    
+    private ObjectMapper objectMapper;
+    private Workspace workspace;
+    private Project project;
+    private Task task;
+    private CursorPage<Task> taskPage;
+    private List<WorkspaceSummaryResponse> workspaceSummaries;
+    
+    @Setup
+    public void setUp() {
+        objectMapper = BenchmarkFixtures.objectMapper();
+        List<User> users = BenchmarkFixtures.users(10);
+        workspace = BenchmarkFixtures.workspace(users, 10, tasksPerProject, 3);
+        project = workspace.getProjects().get(0);
+        task = project.getTasks().get(0);
+        
+        // A default-sized page of GET /api/tasks/project/{id}
+        List<Task> tasks = project.getTasks();
+        taskPage = new CursorPage<>(tasks.subList(0, Math.min(50, tasks.size())), "cursor");
+        
+        workspaceSummaries = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            workspaceSummaries.add(new WorkspaceSummaryResponse("workspace-" + i, "Workspace " + i, "workspace-" + i, "", 10, 10));
+        }
+    }
+    
+    @Benchmark
+    public byte[] workspaceGraph() throws Exception {
+        return objectMapper.writeValueAsBytes(workspace);
+    }
+    
+    @Benchmark
+    public byte[] projectGraph() throws Exception {
+        return objectMapper.writeValueAsBytes(project);
+    }
+    
+    @Benchmark
+    public byte[] singleTask() throws Exception {
+        return objectMapper.writeValueAsBytes(task);
+    }
+    
+    @Benchmark
+    public byte[] taskPage() throws Exception {
+        return objectMapper.writeValueAsBytes(taskPage);
+    }
+    
+    @Benchmark
+    public byte[] workspaceSummaries() throws Exception {
+        return objectMapper.writeValueAsBytes(workspaceSummaries);
+    }
+}
@@ -0,0 +1,40 @@
+package com.projectmanagement.benchmarks;
+
+import com.projectmanagement.service.WorkspaceService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Slug generation from WorkspaceService.create, against the String.replaceAll version it replaced
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlugBenchmark {
+    
+    @Param({"Marketing", "  Q3 Roadmap & Planning -- 2024 (EMEA)!  "})
+    private String name;
+    
+    @Benchmark
+    public String slugify() {
+        return WorkspaceService.slugify(name);
+    }
+    
+    @Benchmark
+    public String replaceAllBaseline() {
+        return name.toLowerCase()
+                .replaceAll("[^a-z0-9]+", "-")
+                .replaceAll("^-|-$", "");
+    }
+}
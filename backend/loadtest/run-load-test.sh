@@ -0,0 +1,80 @@
+#!/usr/bin/env sh
+# Boots the API with the seed data set, drives it with the load test and writes the results to
+# results/<commit>-<label>.json. Exits non-zero when an SLO in loadtest.properties is breached.
+#   ./run-load-test.sh                     platform threads
+#   ./run-load-test.sh --compare-threads   platform, then virtual threads (JDK 21), then a side-by-side comparison
+# Other arguments are key=value overrides, e.g. users=200 duration-seconds=120.
+# Uses SPRING_DATASOURCE_URL when set, otherwise starts the postgres service from docker-compose.yml.
+set -e
+cd "$(dirname "$0")"
+
+compare=false
+if [ "$1" = "--compare-threads" ]; then
+    compare=true
+    shift
+fi
+
+if [ "$compare" = true ]; then
+    java_major=$(java -XshowSettings:properties -version 2>&1 | sed -n 's/ *java.specification.version = //p')
+    if [ "$java_major" -lt 21 ]; then
+        echo "Virtual threads need a JDK 21 runtime, found $java_major" >&2
+        exit 2
+    fi
+fi
+
+# The seed data set is loaded by DemoDataSeeder, which lives in the test sources, so the API runs
+# from its test classpath rather than from the packaged jar
+mvn -B -q -f ../pom.xml test-compile dependency:build-classpath \
+    -Dmdep.includeScope=test -DexcludeArtifactIds=spring-boot-devtools -Dmdep.outputFile=target/app-classpath.txt
+mvn -B -q package
+app_classpath="../target/classes:../target/test-classes:$(cat ../target/app-classpath.txt)"
+
+if [ -z "$SPRING_DATASOURCE_URL" ]; then
+    docker compose -f ../../docker-compose.yml up -d --wait postgres
+fi
+
+commit=$(git rev-parse --short HEAD 2>/dev/null || echo local)
+if [ -n "$(git status --porcelain -- ../src 2>/dev/null)" ]; then
+    commit="$commit-dirty"
+fi
+mkdir -p results
+
+# run <label> <spring profiles> [overrides...]
+run() {
+    label=$1
+    profiles=$2
+    shift 2
+    java -cp "$app_classpath" com.projectmanagement.ProjectManagementApplication \
+        --spring.profiles.active="$profiles" > "results/$commit-$label-app.log" 2>&1 &
+    app_pid=$!
+    trap 'kill $app_pid 2>/dev/null' EXIT
+    
+    # The seed profile loads its data set before the application reports ready
+    echo "Starting API ($profiles)"
+    until curl -sf "http://localhost:${MANAGEMENT_PORT:-8081}/actuator/health/readiness" > /dev/null; do
+        if ! kill -0 $app_pid 2>/dev/null; then
+            echo "API exited during start-up, see results/$commit-$label-app.log" >&2
+            exit 2
+        fi
+        sleep 2
+    done
+    
+    status=0
+    java -jar target/loadtest.jar label="$label" results-file="results/$commit-$label.json" "$@" || status=$?
+    kill $app_pid
+    wait $app_pid 2>/dev/null || true
+    trap - EXIT
+    return $status
+}
+
+if [ "$compare" = false ]; then
+    run platform seed,loadtest "$@"
+    exit
+fi
+
+platform_status=0
+virtual_status=0
+run platform seed,loadtest "$@" || platform_status=$?
+run virtual-threads seed,loadtest,virtual-threads "$@" || virtual_status=$?
+java -jar target/loadtest.jar compare "results/$commit-platform.json" "results/$commit-virtual-threads.json"
+[ "$platform_status" -eq 0 ] && [ "$virtual_status" -eq 0 ]
@@ -0,0 +1,123 @@
+package com.projectmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Sends API requests and records their latency under the operation they belong to.
+// Requests sent before the measurement window opens are not recorded
+public class ApiClient {
+    
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final Duration requestTimeout;
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private volatile boolean measuring;
+    
+    public ApiClient(String baseUrl, Duration requestTimeout) {
+        this.baseUrl = baseUrl;
+        this.requestTimeout = requestTimeout;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(requestTimeout)
+                .build();
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats(operation));
+        }
+    }
+    
+    public void startMeasuring() {
+        measuring = true;
+    }
+    
+    public void stopMeasuring() {
+        measuring = false;
+    }
+    
+    public Map<Operation, OperationStats> stats() {
+        return stats;
+    }
+    
+    public HttpRequest.Builder get(String path, String token) {
+        return request(path, token).GET();
+    }
+    
+    public HttpRequest.Builder post(String path, String token, Object body) {
+        return request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(json(body)));
+    }
+    
+    public HttpRequest.Builder put(String path, String token, Object body) {
+        return request(path, token)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(json(body)));
+    }
+    
+    // Returns null when the request failed; failures are counted as errors of the operation
+    public HttpResponse<byte[]> send(Operation operation, HttpRequest.Builder request) throws InterruptedException {
+        boolean recorded = measuring;
+        OperationStats operationStats = stats.get(operation);
+        long started = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            if (recorded) {
+                operationStats.recordError();
+            }
+            return null;
+        }
+        long elapsed = System.nanoTime() - started;
+        
+        int status = response.statusCode();
+        if (status >= 200 && status < 300) {
+            if (recorded) {
+                operationStats.recordSuccess(elapsed);
+            }
+            return response;
+        }
+        // Another user updated the task between our GET and PUT; the server handled it correctly
+        if (status == 412 && operation == Operation.EDIT_TASK) {
+            if (recorded) {
+                operationStats.recordConflict(elapsed);
+            }
+            return response;
+        }
+        if (recorded) {
+            operationStats.recordError();
+        }
+        return null;
+    }
+    
+    public JsonNode readTree(HttpResponse<byte[]> response) throws IOException {
+        return objectMapper.readTree(response.body());
+    }
+    
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout)
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+    
+    private byte[] json(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot serialize request body", e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.projectmanagement.loadtest;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Entry point:
+//   java -jar loadtest.jar [key=value ...]                 runs the mix configured in loadtest.properties
+//   java -jar loadtest.jar compare baseline.json other.json  compares two result files
+// Exit codes: 0 all SLOs met, 1 an SLO was breached, 2 the run could not start
+public class LoadTest {
+    
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals("compare")) {
+            if (args.length != 3) {
+                System.err.println("Usage: compare <baseline.json> <candidate.json>");
+                System.exit(2);
+            }
+            new ResultComparison(Path.of(args[1]), Path.of(args[2])).print(System.out);
+            return;
+        }
+        
+        LoadTestSettings settings = LoadTestSettings.load(args);
+        ApiClient client = new ApiClient(settings.baseUrl(), settings.requestTimeout());
+        AtomicBoolean running = new AtomicBoolean(true);
+        
+        List<SimulatedUser> users = new ArrayList<>();
+        for (int i = 0; i < settings.users(); i++) {
+            String email = "seed-user-" + (i % settings.seedUsers()) + "@example.com";
+            SimulatedUser user = new SimulatedUser(client, email, settings.mix(), settings.thinkTime(), running);
+            if (user.start()) {
+                users.add(user);
+            } else {
+                System.err.println("Skipping " + email + ": login failed or no projects to work on");
+            }
+        }
+        if (users.isEmpty()) {
+            System.err.println("No user could start; is the API running with the seed profile at " + settings.baseUrl() + "?");
+            System.exit(2);
+        }
+        
+        List<Thread> threads = new ArrayList<>();
+        for (SimulatedUser user : users) {
+            Thread thread = new Thread(user, "load-user-" + threads.size());
+            thread.start();
+            threads.add(thread);
+        }
+        
+        // Warm-up traffic lets the JIT, connection pools and caches settle before anything is recorded
+        System.out.printf("%d users running, warming up for %d s%n", users.size(), settings.warmup().toSeconds());
+        Thread.sleep(settings.warmup().toMillis());
+        long measureStart = System.nanoTime();
+        client.startMeasuring();
+        System.out.printf("Measuring for %d s%n", settings.duration().toSeconds());
+        Thread.sleep(settings.duration().toMillis());
+        client.stopMeasuring();
+        double measuredSeconds = (System.nanoTime() - measureStart) / 1e9;
+        
+        running.set(false);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        
+        LoadTestReport report = new LoadTestReport(settings, client.stats().values(), measuredSeconds);
+        report.print(System.out);
+        report.write(settings.resultsFile());
+        System.out.println("Results written to " + settings.resultsFile());
+        System.exit(report.violations().isEmpty() ? 0 : 1);
+    }
+}
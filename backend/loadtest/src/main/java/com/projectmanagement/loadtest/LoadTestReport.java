@@ -0,0 +1,126 @@
+package com.projectmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+// Throughput and latency percentiles per operation over the measurement window, checked against the SLOs
+public class LoadTestReport {
+    
+    private static final int[] PERCENTILES = {50, 95, 99};
+    
+    private final LoadTestSettings settings;
+    private final Collection<OperationStats> stats;
+    private final double measuredSeconds;
+    private final List<String> violations = new ArrayList<>();
+    
+    public LoadTestReport(LoadTestSettings settings, Collection<OperationStats> stats, double measuredSeconds) {
+        this.settings = settings;
+        this.stats = stats;
+        this.measuredSeconds = measuredSeconds;
+        checkSlos();
+    }
+    
+    public List<String> violations() {
+        return violations;
+    }
+    
+    private void checkSlos() {
+        long requests = 0;
+        long errors = 0;
+        for (OperationStats operation : stats) {
+            requests += operation.count() + operation.errors();
+            errors += operation.errors();
+            if (operation.count() == 0) {
+                continue;
+            }
+            for (int percentile : PERCENTILES) {
+                Long threshold = settings.latencySlo(operation.operation(), percentile);
+                double actual = operation.percentileMillis(percentile);
+                if (threshold != null && actual > threshold) {
+                    violations.add(String.format(Locale.ROOT, "%s p%d %.1f ms exceeds %d ms",
+                            operation.operation().key(), percentile, actual, threshold));
+                }
+            }
+        }
+        if (requests == 0) {
+            violations.add("no requests completed during the measurement window");
+            return;
+        }
+        double errorRate = (double) errors / requests;
+        if (errorRate > settings.maxErrorRate()) {
+            violations.add(String.format(Locale.ROOT, "error rate %.4f exceeds %.4f", errorRate, settings.maxErrorRate()));
+        }
+    }
+    
+    public void print(PrintStream out) {
+        out.printf(Locale.ROOT, "%nLoad test '%s': %d users against %s for %.0f s%n%n",
+                settings.label(), settings.users(), settings.baseUrl(), measuredSeconds);
+        out.printf(Locale.ROOT, "%-16s %-34s %9s %9s %9s %9s %9s %9s %7s %9s%n",
+                "operation", "endpoint", "requests", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "errors", "conflicts");
+        for (OperationStats operation : stats) {
+            if (operation.count() == 0 && operation.errors() == 0) {
+                continue;
+            }
+            out.printf(Locale.ROOT, "%-16s %-34s %9d %9.1f %9.1f %9.1f %9.1f %9.1f %7d %9d%n",
+                    operation.operation().key(), operation.operation().endpoint(), operation.count(),
+                    operation.count() / measuredSeconds, operation.percentileMillis(50), operation.percentileMillis(95),
+                    operation.percentileMillis(99), operation.maxMillis(), operation.errors(), operation.conflicts());
+        }
+        out.println();
+        if (violations.isEmpty()) {
+            out.println("All SLOs met");
+        } else {
+            out.println("SLO violations:");
+            violations.forEach(violation -> out.println("  - " + violation));
+        }
+    }
+    
+    public void write(Path file) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("label", settings.label());
+        root.put("finishedAt", Instant.now().toString());
+        root.put("baseUrl", settings.baseUrl());
+        root.put("users", settings.users());
+        root.put("measuredSeconds", measuredSeconds);
+        
+        ObjectNode operations = root.putObject("operations");
+        for (OperationStats operation : stats) {
+            if (operation.count() == 0 && operation.errors() == 0) {
+                continue;
+            }
+            ObjectNode node = operations.putObject(operation.operation().key());
+            node.put("endpoint", operation.operation().endpoint());
+            node.put("requests", operation.count());
+            node.put("throughput", operation.count() / measuredSeconds);
+            node.put("errors", operation.errors());
+            node.put("conflicts", operation.conflicts());
+            node.put("meanMs", operation.meanMillis());
+            for (int percentile : PERCENTILES) {
+                node.put("p" + percentile + "Ms", operation.percentileMillis(percentile));
+            }
+            node.put("maxMs", operation.maxMillis());
+        }
+        
+        ArrayNode violationsNode = root.putArray("sloViolations");
+        violations.forEach(violationsNode::add);
+        root.put("passed", violations.isEmpty());
+        
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        objectMapper.writeValue(file.toFile(), root);
+    }
+}
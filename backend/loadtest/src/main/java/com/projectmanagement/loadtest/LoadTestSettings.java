@@ -0,0 +1,108 @@
+package com.projectmanagement.loadtest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+// loadtest.properties merged with key=value overrides from the command line
+public class LoadTestSettings {
+    
+    private static final String MIX_PREFIX = "mix.";
+    private static final String SLO_PREFIX = "slo.";
+    
+    private final Properties properties;
+    
+    private LoadTestSettings(Properties properties) {
+        this.properties = properties;
+    }
+    
+    public static LoadTestSettings load(String[] args) throws IOException {
+        Map<String, String> overrides = new LinkedHashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            overrides.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        
+        Properties properties = new Properties();
+        Path file = Path.of(overrides.getOrDefault("config", "loadtest.properties"));
+        if (Files.exists(file)) {
+            try (Reader reader = Files.newBufferedReader(file)) {
+                properties.load(reader);
+            }
+        }
+        properties.putAll(overrides);
+        return new LoadTestSettings(properties);
+    }
+    
+    public String baseUrl() {
+        String baseUrl = string("base-url", "http://localhost:8080");
+        return baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+    
+    public String label() {
+        return string("label", "default");
+    }
+    
+    public Path resultsFile() {
+        return Path.of(string("results-file", "results/" + label() + ".json"));
+    }
+    
+    public int users() {
+        return integer("users", 50);
+    }
+    
+    public int seedUsers() {
+        return integer("seed-users", 20);
+    }
+    
+    public Duration thinkTime() {
+        return Duration.ofMillis(integer("think-time-ms", 50));
+    }
+    
+    public Duration warmup() {
+        return Duration.ofSeconds(integer("warmup-seconds", 15));
+    }
+    
+    public Duration duration() {
+        return Duration.ofSeconds(integer("duration-seconds", 60));
+    }
+    
+    public Duration requestTimeout() {
+        return Duration.ofMillis(integer("request-timeout-ms", 10000));
+    }
+    
+    public Map<Operation, Integer> mix() {
+        Map<Operation, Integer> mix = new LinkedHashMap<>();
+        for (Operation operation : Operation.USER_ACTIONS) {
+            mix.put(operation, integer(MIX_PREFIX + operation.key(), 0));
+        }
+        return mix;
+    }
+    
+    // slo.<operation>.p95-ms style keys; null when the operation has no threshold for that percentile
+    public Long latencySlo(Operation operation, int percentile) {
+        String value = properties.getProperty(SLO_PREFIX + operation.key() + ".p" + percentile + "-ms");
+        return value == null ? null : Long.parseLong(value.trim());
+    }
+    
+    public double maxErrorRate() {
+        return Double.parseDouble(string(SLO_PREFIX + "max-error-rate", "0.01"));
+    }
+    
+    private String string(String key, String defaultValue) {
+        return properties.getProperty(key, defaultValue).trim();
+    }
+    
+    private int integer(String key, int defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+}
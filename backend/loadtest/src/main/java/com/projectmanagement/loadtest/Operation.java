@@ -0,0 +1,35 @@
+package com.projectmanagement.loadtest;
+
+import java.util.List;
+
+// Every request the simulated users send, with the endpoint it hits
+public enum Operation {
+    
+    LOGIN("login", "POST /api/auth/login"),
+    LIST_PROJECTS("list-projects", "GET /api/projects/workspace/{id}"),
+    LIST_WORKSPACES("list-workspaces", "GET /api/workspaces"),
+    LOAD_BOARD("load-board", "GET /api/tasks/project/{id}"),
+    GET_TASK("get-task", "GET /api/tasks/{id}"),
+    EDIT_TASK("edit-task", "PUT /api/tasks/{id}"),
+    POST_COMMENT("post-comment", "POST /api/comments/task/{id}");
+    
+    // Actions picked by weight in the steady state; login and project listing only happen on start-up.
+    // Editing a task includes the GET that fetches its current state and ETag
+    public static final List<Operation> USER_ACTIONS = List.of(LIST_WORKSPACES, LOAD_BOARD, EDIT_TASK, POST_COMMENT);
+    
+    private final String key;
+    private final String endpoint;
+    
+    Operation(String key, String endpoint) {
+        this.key = key;
+        this.endpoint = endpoint;
+    }
+    
+    public String key() {
+        return key;
+    }
+    
+    public String endpoint() {
+        return endpoint;
+    }
+}
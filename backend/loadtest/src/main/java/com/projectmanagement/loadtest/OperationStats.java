@@ -0,0 +1,69 @@
+package com.projectmanagement.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Latency histogram and outcome counters of one operation, shared by all simulated users
+public class OperationStats {
+    
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+    
+    private final Operation operation;
+    private final Histogram latencyMicros = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    
+    public OperationStats(Operation operation) {
+        this.operation = operation;
+    }
+    
+    public void recordSuccess(long elapsedNanos) {
+        recordLatency(elapsedNanos);
+    }
+    
+    public void recordConflict(long elapsedNanos) {
+        recordLatency(elapsedNanos);
+        conflicts.increment();
+    }
+    
+    public void recordError() {
+        errors.increment();
+    }
+    
+    private void recordLatency(long elapsedNanos) {
+        long micros = Math.max(1, TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+        latencyMicros.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+    }
+    
+    public Operation operation() {
+        return operation;
+    }
+    
+    // Requests that got an answer, including conflicts
+    public long count() {
+        return latencyMicros.getTotalCount();
+    }
+    
+    public long errors() {
+        return errors.sum();
+    }
+    
+    public long conflicts() {
+        return conflicts.sum();
+    }
+    
+    public double percentileMillis(double percentile) {
+        return latencyMicros.getValueAtPercentile(percentile) / 1000.0;
+    }
+    
+    public double meanMillis() {
+        return latencyMicros.getMean() / 1000.0;
+    }
+    
+    public double maxMillis() {
+        return latencyMicros.getMaxValue() / 1000.0;
+    }
+}
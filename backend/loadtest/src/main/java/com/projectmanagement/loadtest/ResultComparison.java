@@ -0,0 +1,57 @@
+package com.projectmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+
+// Side-by-side view of two result files, e.g. the same mix on platform and on virtual threads
+public class ResultComparison {
+    
+    private final JsonNode baseline;
+    private final JsonNode candidate;
+    
+    public ResultComparison(Path baseline, Path candidate) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        this.baseline = objectMapper.readTree(baseline.toFile());
+        this.candidate = objectMapper.readTree(candidate.toFile());
+    }
+    
+    public void print(PrintStream out) {
+        String baselineLabel = baseline.path("label").asText();
+        String candidateLabel = candidate.path("label").asText();
+        out.printf(Locale.ROOT, "%n%s (baseline) vs %s%n%n", baselineLabel, candidateLabel);
+        out.printf(Locale.ROOT, "%-16s %-8s %12s %12s %9s%n", "operation", "metric", baselineLabel, candidateLabel, "change");
+        
+        Iterator<Map.Entry<String, JsonNode>> operations = baseline.path("operations").fields();
+        while (operations.hasNext()) {
+            Map.Entry<String, JsonNode> entry = operations.next();
+            JsonNode other = candidate.path("operations").path(entry.getKey());
+            if (other.isMissingNode()) {
+                continue;
+            }
+            printRow(out, entry.getKey(), "req/s", entry.getValue().path("throughput"), other.path("throughput"));
+            printRow(out, "", "p50 ms", entry.getValue().path("p50Ms"), other.path("p50Ms"));
+            printRow(out, "", "p95 ms", entry.getValue().path("p95Ms"), other.path("p95Ms"));
+            printRow(out, "", "p99 ms", entry.getValue().path("p99Ms"), other.path("p99Ms"));
+        }
+        out.printf(Locale.ROOT, "%nSLOs: %s %s, %s %s%n",
+                baselineLabel, passed(baseline), candidateLabel, passed(candidate));
+    }
+    
+    private static void printRow(PrintStream out, String operation, String metric, JsonNode before, JsonNode after) {
+        double from = before.asDouble();
+        double to = after.asDouble();
+        String change = from == 0 ? "n/a" : String.format(Locale.ROOT, "%+.1f%%", (to - from) / from * 100);
+        out.printf(Locale.ROOT, "%-16s %-8s %12.1f %12.1f %9s%n", operation, metric, from, to, change);
+    }
+    
+    private static String passed(JsonNode result) {
+        return result.path("passed").asBoolean() ? "passed" : "failed";
+    }
+}
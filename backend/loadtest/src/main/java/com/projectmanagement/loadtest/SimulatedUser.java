@@ -0,0 +1,164 @@
+package com.projectmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// One logged-in user working on the boards of their workspaces: lists workspaces, opens boards,
+// edits tasks with If-Match and posts comments, with a randomized pause between actions
+public class SimulatedUser implements Runnable {
+    
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "DONE"};
+    
+    private final ApiClient client;
+    private final String email;
+    private final Map<Operation, Integer> mix;
+    private final int totalWeight;
+    private final Duration thinkTime;
+    private final AtomicBoolean running;
+    private final List<String> projectIds = new ArrayList<>();
+    private final Map<String, List<String>> taskIdsByProject = new LinkedHashMap<>();
+    private String token;
+    
+    public SimulatedUser(ApiClient client, String email, Map<Operation, Integer> mix, Duration thinkTime, AtomicBoolean running) {
+        this.client = client;
+        this.email = email;
+        this.mix = mix;
+        this.totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        this.thinkTime = thinkTime;
+        this.running = running;
+    }
+    
+    // Logs in and discovers the projects this user can work on; false when the user has nothing to do
+    public boolean start() throws IOException, InterruptedException {
+        HttpResponse<byte[]> login = client.send(Operation.LOGIN, client.post("/api/auth/login", null,
+                Map.of("email", email, "password", "load-test")));
+        if (login == null) {
+            return false;
+        }
+        token = client.readTree(login).path("token").asText();
+        
+        HttpResponse<byte[]> workspaces = client.send(Operation.LIST_WORKSPACES, client.get("/api/workspaces", token));
+        if (workspaces == null) {
+            return false;
+        }
+        for (JsonNode workspace : client.readTree(workspaces)) {
+            HttpResponse<byte[]> projects = client.send(Operation.LIST_PROJECTS,
+                    client.get("/api/projects/workspace/" + workspace.path("id").asText(), token));
+            if (projects != null) {
+                client.readTree(projects).forEach(project -> projectIds.add(project.path("id").asText()));
+            }
+        }
+        return !projectIds.isEmpty();
+    }
+    
+    @Override
+    public void run() {
+        try {
+            while (running.get()) {
+                perform(pickAction());
+                pause();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unreadable response for " + email, e);
+        }
+    }
+    
+    private Operation pickAction() {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Action mix has no positive weights");
+    }
+    
+    private void perform(Operation action) throws IOException, InterruptedException {
+        switch (action) {
+            case LIST_WORKSPACES -> client.send(Operation.LIST_WORKSPACES, client.get("/api/workspaces", token));
+            case LOAD_BOARD -> loadBoard(randomElement(projectIds));
+            case EDIT_TASK -> editTask();
+            case POST_COMMENT -> postComment();
+            default -> throw new IllegalArgumentException("Not a user action: " + action);
+        }
+    }
+    
+    private List<String> loadBoard(String projectId) throws IOException, InterruptedException {
+        HttpResponse<byte[]> board = client.send(Operation.LOAD_BOARD, client.get("/api/tasks/project/" + projectId, token));
+        if (board == null) {
+            return List.of();
+        }
+        List<String> taskIds = new ArrayList<>();
+        client.readTree(board).path("items").forEach(task -> taskIds.add(task.path("id").asText()));
+        taskIdsByProject.put(projectId, taskIds);
+        return taskIds;
+    }
+    
+    // Users act on tasks of a board they have already opened, as they would in the UI
+    private String randomTaskId() throws IOException, InterruptedException {
+        String projectId = randomElement(projectIds);
+        List<String> taskIds = taskIdsByProject.get(projectId);
+        if (taskIds == null) {
+            taskIds = loadBoard(projectId);
+        }
+        return taskIds.isEmpty() ? null : randomElement(taskIds);
+    }
+    
+    private void editTask() throws IOException, InterruptedException {
+        String taskId = randomTaskId();
+        if (taskId == null) {
+            return;
+        }
+        HttpResponse<byte[]> current = client.send(Operation.GET_TASK, client.get("/api/tasks/" + taskId, token));
+        if (current == null) {
+            return;
+        }
+        JsonNode task = client.readTree(current);
+        Map<String, Object> update = new LinkedHashMap<>();
+        update.put("projectId", task.path("projectId").asText());
+        update.put("title", task.path("title").asText());
+        update.put("description", task.path("description").asText(""));
+        update.put("status", STATUSES[ThreadLocalRandom.current().nextInt(STATUSES.length)]);
+        update.put("type", task.path("type").asText());
+        update.put("priority", task.path("priority").asText());
+        update.put("assigneeId", task.path("assigneeId").asText());
+        update.put("dueDate", task.path("dueDate").isNull() ? null : task.path("dueDate").asText());
+        
+        HttpRequest.Builder request = client.put("/api/tasks/" + taskId, token, update);
+        current.headers().firstValue("ETag").ifPresent(etag -> request.header("If-Match", etag));
+        client.send(Operation.EDIT_TASK, request);
+    }
+    
+    private void postComment() throws IOException, InterruptedException {
+        String taskId = randomTaskId();
+        if (taskId != null) {
+            client.send(Operation.POST_COMMENT, client.post("/api/comments/task/" + taskId, token,
+                    Map.of("content", "Load test comment from " + email)));
+        }
+    }
+    
+    // Uniform between half and one and a half times the configured think time
+    private void pause() throws InterruptedException {
+        long millis = thinkTime.toMillis();
+        if (millis > 0) {
+            Thread.sleep(millis / 2 + ThreadLocalRandom.current().nextLong(millis + 1));
+        }
+    }
+    
+    private static <T> T randomElement(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+}
@@ -0,0 +1,33 @@
+package com.projectmanagement.activity;
+
+import com.projectmanagement.model.Comment;
+import com.projectmanagement.model.Project;
+import com.projectmanagement.model.Task;
+import com.projectmanagement.outbox.DomainEventType;
+
+// One change to be recorded in the activity log. Only the narrowest known scope has to be set: the workspace of a
+// project or task, and the project of a comment's task, are filled in by the insert itself
+public record ActivityEntry(DomainEventType action, String subjectId, String workspaceId, String projectId,
+                            String taskId, Object details) {
+    
+    public static ActivityEntry workspace(DomainEventType action, String workspaceId, Object details) {
+        return new ActivityEntry(action, workspaceId, workspaceId, null, null, details);
+    }
+    
+    public static ActivityEntry project(DomainEventType action, Project project, Object details) {
+        return new ActivityEntry(action, project.getId(), project.getWorkspaceId(), project.getId(), null, details);
+    }
+    
+    // For changes that only have the project id at hand; the workspace is looked up from the project
+    public static ActivityEntry project(DomainEventType action, String projectId, Object details) {
+        return new ActivityEntry(action, projectId, null, projectId, null, details);
+    }
+    
+    public static ActivityEntry task(DomainEventType action, Task task, Object details) {
+        return new ActivityEntry(action, task.getId(), null, task.getProjectId(), null, details);
+    }
+    
+    public static ActivityEntry comment(DomainEventType action, Comment comment, Object details) {
+        return new ActivityEntry(action, comment.getId(), null, null, comment.getTaskId(), details);
+    }
+}
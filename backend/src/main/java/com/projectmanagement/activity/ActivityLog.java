@@ -0,0 +1,78 @@
+package com.projectmanagement.activity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.projectmanagement.repository.ActivityLogRepository;
+import com.projectmanagement.repository.ActivityLogRepository.NewActivity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+// Appends to the activity log in the caller's transaction. Each call is a single JDBC batch, so a write
+// request records all of its entries with one round trip
+@Component
+@RequiredArgsConstructor
+public class ActivityLog {
+    
+    private final ActivityLogRepository activityLogRepository;
+    private final ObjectMapper objectMapper;
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ActivityEntry entry) {
+        recordAll(List.of(entry));
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(Collection<ActivityEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        // The acting user is whoever authenticated the request; null for writes made by the application itself
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String actorId = authentication != null && !(authentication instanceof AnonymousAuthenticationToken)
+                ? authentication.getName()
+                : null;
+        activityLogRepository.insertAll(entries.stream()
+                .map(entry -> new NewActivity(entry.workspaceId(), entry.projectId(), entry.taskId(), actorId,
+                        entry.action().name(), entry.action().getAggregateType().name(), entry.subjectId(),
+                        toJson(entry.details())))
+                .toList());
+    }
+    
+    // The fields that differ between two snapshots of the same type, as {"field": {"from": .., "to": ..}}
+    public ObjectNode changes(Object before, Object after) {
+        JsonNode previous = objectMapper.valueToTree(before);
+        JsonNode current = objectMapper.valueToTree(after);
+        ObjectNode changes = objectMapper.createObjectNode();
+        Iterator<Map.Entry<String, JsonNode>> fields = current.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode from = previous.path(field.getKey());
+            if (!from.equals(field.getValue())) {
+                ObjectNode change = changes.putObject(field.getKey());
+                change.set("from", from.isMissingNode() ? null : from);
+                change.set("to", field.getValue());
+            }
+        }
+        return changes;
+    }
+    
+    private String toJson(Object details) {
+        try {
+            return details != null ? objectMapper.writeValueAsString(details) : "{}";
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize activity details", e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.projectmanagement.activity;
+
+import com.projectmanagement.repository.ActivityLogRepository;
+import com.projectmanagement.repository.SchedulerLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+// Keeps monthly activity_log partitions created ahead of time and drops the ones older than the retention.
+// Runs on startup and then daily, on one node at a time
+@Slf4j
+@Component
+public class ActivityLogPartitions {
+    
+    static final String LEASE_NAME = "activity-log-partitions";
+    
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyyMMdd");
+    
+    private final ActivityLogRepository activityLogRepository;
+    private final SchedulerLeaseRepository leaseRepository;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final String nodeId = UUID.randomUUID().toString();
+    
+    public ActivityLogPartitions(
+            ActivityLogRepository activityLogRepository,
+            SchedulerLeaseRepository leaseRepository,
+            @Value("${activity.partitions.months-ahead:3}") int monthsAhead,
+            @Value("${activity.partitions.retention-months:12}") int retentionMonths) {
+        this.activityLogRepository = activityLogRepository;
+        this.leaseRepository = leaseRepository;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+    
+    @Scheduled(cron = "${activity.partitions.cron:0 30 3 * * *}")
+    public void maintain() {
+        try {
+            if (!leaseRepository.tryAcquire(LEASE_NAME, nodeId, 60_000)) {
+                return;
+            }
+            try {
+                LocalDate currentMonth = activityLogRepository.currentMonth();
+                for (int i = 0; i <= monthsAhead; i++) {
+                    activityLogRepository.createPartition(currentMonth.plusMonths(i));
+                }
+                dropExpired(currentMonth.minusMonths(retentionMonths));
+            } finally {
+                leaseRepository.release(LEASE_NAME, nodeId);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Activity log partition maintenance failed", e);
+        }
+    }
+    
+    private void dropExpired(LocalDate oldestKept) {
+        for (String partition : activityLogRepository.findPartitionNames()) {
+            LocalDate month = monthOf(partition);
+            if (month != null && month.isBefore(oldestKept)) {
+                log.info("Dropping activity log partition {}", partition);
+                activityLogRepository.detachAndDropPartition(partition);
+            }
+        }
+    }
+    
+    // Partitions not named by ActivityLogRepository.partitionName are left alone
+    private static LocalDate monthOf(String partition) {
+        if (!partition.startsWith(ActivityLogRepository.PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(partition.substring(ActivityLogRepository.PARTITION_PREFIX.length()) + "01", MONTH);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.projectmanagement.cache;
+
+import java.util.List;
+
+// Second-level cache regions; every region must be listed here so it is created with a size and TTL bound
+public final class CacheRegions {
+    
+    public static final String USERS = "users";
+    public static final String WORKSPACES = "workspaces";
+    public static final String WORKSPACE_MEMBERS = "workspace-members";
+    public static final String PROJECT_MEMBERS = "project-members";
+    public static final String WORKSPACE_MEMBER_IDS = "workspace-member-ids";
+    public static final String PROJECT_MEMBER_IDS = "project-member-ids";
+    public static final String QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+    
+    public static final List<String> EXPIRING = List.of(
+        USERS, WORKSPACES, WORKSPACE_MEMBERS, PROJECT_MEMBERS, WORKSPACE_MEMBER_IDS, PROJECT_MEMBER_IDS, QUERY_RESULTS
+    );
+    
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,139 @@
+package com.projectmanagement.cache;
+
+import com.projectmanagement.events.PostgresNotificationBus;
+import com.projectmanagement.model.Project;
+import com.projectmanagement.model.ProjectMember;
+import com.projectmanagement.model.User;
+import com.projectmanagement.model.Workspace;
+import com.projectmanagement.model.WorkspaceMember;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.util.Map;
+
+// Keeps the second-level caches of all nodes coherent. Every write to a cached entity sends a NOTIFY from
+// inside the writing transaction, so it is only delivered if that transaction commits. Each node, this one
+// included, then drops the entity, the membership collections it may belong to and the cached query results.
+// The writing node also evicts right after its own commit so it reads its writes without waiting for the listener
+@Slf4j
+@Component
+public class ClusterCacheInvalidator implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+    
+    static final String CHANNEL = "cache_invalidations";
+    
+    private static final String SEPARATOR = "|";
+    
+    // Cached entity -> cached collection role that lists it, if any
+    private static final Map<String, String> CACHED_ENTITIES = Map.of(
+        User.class.getName(), "",
+        Workspace.class.getName(), "",
+        WorkspaceMember.class.getName(), Workspace.class.getName() + ".members",
+        ProjectMember.class.getName(), Project.class.getName() + ".members"
+    );
+    
+    private final SessionFactoryImplementor sessionFactory;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    
+    public ClusterCacheInvalidator(
+            EntityManagerFactory entityManagerFactory,
+            PostgresNotificationBus notificationBus,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.meterRegistry = meterRegistry;
+        
+        EventListenerRegistry listeners = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        listeners.appendListeners(EventType.POST_INSERT, this);
+        listeners.appendListeners(EventType.POST_UPDATE, this);
+        listeners.appendListeners(EventType.POST_DELETE, this);
+        notificationBus.subscribe(CHANNEL, this::onNotification);
+    }
+    
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        invalidateOnCommit(event.getSession(), event.getPersister(), event.getId());
+    }
+    
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        invalidateOnCommit(event.getSession(), event.getPersister(), event.getId());
+    }
+    
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        invalidateOnCommit(event.getSession(), event.getPersister(), event.getId());
+    }
+    
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+    
+    private void invalidateOnCommit(EventSource session, EntityPersister persister, Object id) {
+        if (!CACHED_ENTITIES.containsKey(persister.getEntityName())) {
+            return;
+        }
+        String payload = persister.getEntityName() + SEPARATOR + id;
+        session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) s -> s.doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+                statement.setString(1, CHANNEL);
+                statement.setString(2, payload);
+                statement.execute();
+            }
+        }));
+        session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, s) -> {
+            if (success) {
+                evict(payload);
+            }
+        });
+    }
+    
+    // Every node gets the notification, the writing one included, so this is where invalidations are counted
+    private void onNotification(String payload) {
+        String entityName = evict(payload);
+        if (entityName != null) {
+            meterRegistry.ifAvailable(registry -> Counter.builder("cache.invalidations")
+                    .description("Second-level cache invalidations applied on this node")
+                    .tag("entity", entityName.substring(entityName.lastIndexOf('.') + 1))
+                    .register(registry)
+                    .increment());
+        }
+    }
+    
+    // Returns the evicted entity name, or null if the payload names no cached entity
+    private String evict(String payload) {
+        int separator = payload.indexOf(SEPARATOR);
+        String entityName = separator > 0 ? payload.substring(0, separator) : null;
+        String collectionRole = CACHED_ENTITIES.get(entityName);
+        if (collectionRole == null) {
+            log.warn("Ignoring cache invalidation for unknown entity: {}", payload);
+            return null;
+        }
+        
+        org.hibernate.Cache cache = sessionFactory.getCache();
+        cache.evictEntityData(entityName, payload.substring(separator + 1));
+        if (!collectionRole.isEmpty()) {
+            cache.evictCollectionData(collectionRole);
+        }
+        // Query results are only invalidated by local writes, so a remote one has to drop them explicitly
+        cache.evictDefaultQueryRegion();
+        return entityName;
+    }
+}
@@ -0,0 +1,61 @@
+package com.projectmanagement.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Hibernate second-level cache for users, workspaces and memberships. Every region is bounded by size and
+// expires entries after a fixed time, which also caps staleness if a cross-node invalidation is ever missed
+@Configuration
+public class SecondLevelCacheConfig {
+    
+    // One entry per table, and entries must outlive the query results they validate, so no expiry here
+    private static final long UPDATE_TIMESTAMPS_MAX_ENTRIES = 1000;
+    
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(
+            @Value("${cache.second-level.max-entries:10000}") long maxEntries,
+            @Value("${cache.second-level.time-to-live-seconds:600}") long timeToLiveSeconds) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // The provider keeps one manager per URI and class loader, so the default URI would hand every application
+        // context in this JVM (a second test context, say) the same manager and its already created regions
+        URI uri = URI.create("urn:second-level-cache:" + UUID.randomUUID());
+        CacheManager cacheManager = provider.getCacheManager(uri, getClass().getClassLoader());
+        
+        for (String region : CacheRegions.EXPIRING) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxEntries));
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(timeToLiveSeconds)));
+            cacheManager.createCache(region, configuration);
+        }
+        CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+        timestamps.setMaximumSize(OptionalLong.of(UPDATE_TIMESTAMPS_MAX_ENTRIES));
+        cacheManager.createCache(CacheRegions.UPDATE_TIMESTAMPS, timestamps);
+        return cacheManager;
+    }
+    
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            // A region missing from CacheRegions would otherwise be created unbounded
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+}
@@ -0,0 +1,132 @@
+package com.projectmanagement.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// With virtual threads the servlet container no longer caps concurrent requests, so this filter
+// does: a burst waits briefly for a permit and is shed with 503 instead of queueing thousands of
+// threads on the connection pool
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "concurrency.max-in-flight")
+public class RequestConcurrencyFilter extends OncePerRequestFilter {
+    
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private Counter rejected;
+    
+    public RequestConcurrencyFilter(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${concurrency.max-in-flight}") int maxInFlight,
+            @Value("${concurrency.acquire-timeout-ms:1000}") long acquireTimeoutMs,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        this.permits = new Semaphore(maxInFlight, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        if (maxInFlight < poolSize) {
+            log.warn("concurrency.max-in-flight ({}) is below the connection pool size ({}); the pool will never be fully used",
+                    maxInFlight, poolSize);
+        }
+        
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("http.server.requests.permits.available", permits, Semaphore::availablePermits)
+                    .description("Request permits left before new requests are queued")
+                    .register(registry);
+            rejected = Counter.builder("http.server.requests.rejected")
+                    .description("Requests shed because no permit became available in time")
+                    .register(registry);
+        });
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Event streams stay open for minutes and only touch the database when they are opened
+        return request.getRequestURI().startsWith("/api/events/");
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!acquire()) {
+            if (rejected != null) {
+                rejected.increment();
+            }
+            response.setHeader("Retry-After", "1");
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return;
+        }
+        
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            async = request.isAsyncStarted();
+        } finally {
+            if (async) {
+                // Streaming responses keep working after this thread returns
+                request.getAsyncContext().addListener(new ReleasingListener());
+            } else {
+                permits.release();
+            }
+        }
+    }
+    
+    private boolean acquire() {
+        try {
+            return permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    
+    private class ReleasingListener implements AsyncListener {
+        
+        private final AtomicBoolean released = new AtomicBoolean();
+        
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+        
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+        
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+        
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+        
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+}
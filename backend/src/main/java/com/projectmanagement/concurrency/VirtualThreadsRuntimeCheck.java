@@ -0,0 +1,22 @@
+package com.projectmanagement.concurrency;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// Spring Boot only switches to virtual threads on a JDK 21 runtime and silently keeps platform threads on an older
+// one. The virtual-threads profile also shrinks the pool timeouts for that mode, so running it on platform threads
+// would be measured and tuned as something it is not: refuse to start instead
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsRuntimeCheck {
+    
+    private static final int MINIMUM_JAVA_VERSION = 21;
+    
+    public VirtualThreadsRuntimeCheck() {
+        int javaVersion = Runtime.version().feature();
+        if (javaVersion < MINIMUM_JAVA_VERSION) {
+            throw new IllegalStateException("spring.threads.virtual.enabled needs a Java " + MINIMUM_JAVA_VERSION
+                    + " runtime, this is Java " + javaVersion + "; drop the virtual-threads profile or upgrade the JDK");
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.projectmanagement.config;
 
+import com.projectmanagement.logging.EndpointMdcInterceptor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
@@ -32,4 +34,9 @@ public class WebConfig implements WebMvcConfigurer {
                     .maxAge(3600);
         }
     }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new EndpointMdcInterceptor()).addPathPatterns("/api/**");
+    }
 }
@@ -0,0 +1,53 @@
+package com.projectmanagement.controller;
+
+import com.projectmanagement.dto.EventStreamTokenResponse;
+import com.projectmanagement.events.BoardEventBroadcaster;
+import com.projectmanagement.security.JwtTokenProvider;
+import com.projectmanagement.service.ProjectService;
+import com.projectmanagement.service.WorkspaceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// Browsers open these streams with EventSource, which cannot send the Authorization header: clients first
+// POST /api/events/tokens with their bearer token, then open the stream with ?access_token=<token>
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+public class BoardEventController {
+    
+    private final BoardEventBroadcaster boardEventBroadcaster;
+    private final ProjectService projectService;
+    private final WorkspaceService workspaceService;
+    private final JwtTokenProvider jwtTokenProvider;
+    
+    @PostMapping("/tokens")
+    public ResponseEntity<EventStreamTokenResponse> createStreamToken(Authentication authentication) {
+        String token = jwtTokenProvider.generateEventStreamToken(authentication.getName());
+        return ResponseEntity.ok(new EventStreamTokenResponse(token, jwtTokenProvider.getEventStreamExpiration()));
+    }
+    
+    @GetMapping(value = "/projects/{projectId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamProjectEvents(@PathVariable String projectId, Authentication authentication) {
+        if (!projectService.isVisibleTo(projectId, authentication.getName())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(boardEventBroadcaster.subscribeToProject(projectId));
+    }
+    
+    @GetMapping(value = "/workspaces/{workspaceId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamWorkspaceEvents(@PathVariable String workspaceId, Authentication authentication) {
+        if (!workspaceService.isVisibleTo(workspaceId, authentication.getName())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(boardEventBroadcaster.subscribeToWorkspace(workspaceId));
+    }
+}
@@ -1,16 +1,18 @@
 package com.projectmanagement.controller;
 
 import com.projectmanagement.dto.CreateCommentRequest;
+import com.projectmanagement.dto.CursorPage;
 import com.projectmanagement.model.Comment;
 import com.projectmanagement.service.CommentService;
+import com.projectmanagement.streaming.JsonArrayStreamer;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/comments")
@@ -18,10 +20,25 @@ import java.util.List;
 public class CommentController {
     
     private final CommentService commentService;
+    private final JsonArrayStreamer jsonArrayStreamer;
     
     @GetMapping("/task/{taskId}")
-    public ResponseEntity<List<Comment>> getCommentsByTask(@PathVariable String taskId) {
-        return ResponseEntity.ok(commentService.findByTaskId(taskId));
+    public ResponseEntity<CursorPage<Comment>> getCommentsByTask(
+            @PathVariable String taskId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(commentService.findByTaskId(taskId, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+    
+    @GetMapping(value = "/task/{taskId}/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamCommentsByTask(@PathVariable String taskId) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jsonArrayStreamer.stream(() -> commentService.streamByTaskId(taskId)));
     }
     
     @PostMapping("/task/{taskId}")
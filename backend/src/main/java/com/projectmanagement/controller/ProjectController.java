@@ -1,18 +1,31 @@
 package com.projectmanagement.controller;
 
+import com.projectmanagement.dto.ActivityItem;
 import com.projectmanagement.dto.AddProjectMemberRequest;
 import com.projectmanagement.dto.CreateProjectRequest;
+import com.projectmanagement.dto.CursorPage;
+import com.projectmanagement.dto.ProjectStatsResponse;
+import com.projectmanagement.dto.ResourceVersion;
 import com.projectmanagement.model.Project;
 import com.projectmanagement.model.ProjectMember;
+import com.projectmanagement.service.ActivityService;
 import com.projectmanagement.service.ProjectService;
+import com.projectmanagement.service.ProjectStatsService;
+import com.projectmanagement.streaming.JsonArrayStreamer;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/projects")
@@ -20,6 +33,9 @@ import java.util.List;
 public class ProjectController {
     
     private final ProjectService projectService;
+    private final ProjectStatsService projectStatsService;
+    private final ActivityService activityService;
+    private final JsonArrayStreamer jsonArrayStreamer;
     
     @GetMapping
     public ResponseEntity<List<Project>> getAllProjects(Authentication authentication) {
@@ -27,13 +43,59 @@ public class ProjectController {
         return ResponseEntity.ok(projectService.findByUserId(userId));
     }
     
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllProjects(Authentication authentication) {
+        String userId = authentication.getName();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jsonArrayStreamer.stream(() -> projectService.streamByUserId(userId)));
+    }
+    
+    @GetMapping(value = "/workspace/{workspaceId}/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamProjectsByWorkspace(@PathVariable String workspaceId) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jsonArrayStreamer.stream(() -> projectService.streamByWorkspaceId(workspaceId)));
+    }
+    
     @GetMapping("/{id}")
-    public ResponseEntity<Project> getProjectById(@PathVariable String id) {
+    public ResponseEntity<Project> getProjectById(@PathVariable String id, WebRequest webRequest) {
+        Optional<ResourceVersion> version = projectService.findVersionById(id);
+        if (version.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        // Answered from the version query alone; the project graph is only loaded when it changed
+        if (webRequest.checkNotModified(version.get().etag(), version.get().lastModifiedMillis())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         return projectService.findById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
     
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<ProjectStatsResponse> getProjectStats(@PathVariable String id) {
+        return projectStatsService.findByProjectId(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @GetMapping("/{id}/activity")
+    public ResponseEntity<CursorPage<ActivityItem>> getProjectActivity(
+            @PathVariable String id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            Authentication authentication) {
+        if (!projectService.isVisibleTo(id, authentication.getName())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try {
+            return ResponseEntity.ok(activityService.findByProjectId(id, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+    
     @PostMapping
     public ResponseEntity<Project> createProject(
             @Valid @RequestBody CreateProjectRequest request,
@@ -46,10 +108,28 @@ public class ProjectController {
     @PutMapping("/{id}")
     public ResponseEntity<Project> updateProject(
             @PathVariable String id, 
-            @Valid @RequestBody CreateProjectRequest request) {
-        return projectService.update(id, request)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+            @Valid @RequestBody CreateProjectRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            WebRequest webRequest) {
+        Long expectedVersion = null;
+        if (ifMatch != null) {
+            Optional<ResourceVersion> version = projectService.findVersionById(id);
+            if (version.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            // For a PUT, a failed If-Match makes checkNotModified answer 412
+            if (webRequest.checkNotModified(version.get().etag(), version.get().lastModifiedMillis())) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            }
+            expectedVersion = version.get().getVersion();
+        }
+        try {
+            return projectService.update(id, request, expectedVersion)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
     }
     
     @DeleteMapping("/{id}")
@@ -0,0 +1,32 @@
+package com.projectmanagement.controller;
+
+import com.projectmanagement.dto.CursorPage;
+import com.projectmanagement.dto.SearchResult;
+import com.projectmanagement.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+    
+    private final SearchService searchService;
+    
+    @GetMapping
+    public ResponseEntity<CursorPage<SearchResult>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) String workspaceId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            Authentication authentication) {
+        try {
+            return ResponseEntity.ok(searchService.search(authentication.getName(), q, workspaceId, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+}
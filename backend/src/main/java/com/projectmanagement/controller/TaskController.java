@@ -1,16 +1,30 @@
 package com.projectmanagement.controller;
 
+import com.projectmanagement.dto.BatchCreateTaskRequest;
+import com.projectmanagement.dto.BatchTaskResult;
+import com.projectmanagement.dto.BatchUpdateTaskRequest;
 import com.projectmanagement.dto.CreateTaskRequest;
+import com.projectmanagement.dto.CursorPage;
+import com.projectmanagement.dto.ResourceVersion;
+import com.projectmanagement.dto.TaskFilter;
+import com.projectmanagement.dto.TaskListItem;
 import com.projectmanagement.model.Task;
 import com.projectmanagement.service.TaskService;
+import com.projectmanagement.streaming.JsonArrayStreamer;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -18,15 +32,48 @@ import java.util.List;
 public class TaskController {
     
     private final TaskService taskService;
+    private final JsonArrayStreamer jsonArrayStreamer;
     
+    // Tasks assigned to the caller, filtered and sorted by the query parameters bound into TaskFilter
     @GetMapping
-    public ResponseEntity<List<Task>> getAllTasks(Authentication authentication) {
+    public ResponseEntity<CursorPage<TaskListItem>> getAllTasks(
+            TaskFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            Authentication authentication) {
+        String userId = authentication.getName();
+        try {
+            return ResponseEntity.ok(taskService.findAssignedTasks(userId, filter, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+    
+    // Unpaged alternative to the listing above; rows are serialized as they come off the cursor
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllTasks(Authentication authentication) {
         String userId = authentication.getName();
-        return ResponseEntity.ok(taskService.findByAssigneeId(userId));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jsonArrayStreamer.stream(() -> taskService.streamByAssigneeId(userId)));
+    }
+    
+    @GetMapping(value = "/project/{projectId}/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTasksByProject(@PathVariable String projectId) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jsonArrayStreamer.stream(() -> taskService.streamByProjectId(projectId)));
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<Task> getTaskById(@PathVariable String id) {
+    public ResponseEntity<Task> getTaskById(@PathVariable String id, WebRequest webRequest) {
+        Optional<ResourceVersion> version = taskService.findVersionById(id);
+        if (version.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (webRequest.checkNotModified(version.get().etag(), version.get().lastModifiedMillis())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         return taskService.findById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -41,13 +88,44 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
     
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchTaskResult>> createTasks(
+            @Valid @RequestBody BatchCreateTaskRequest request,
+            Authentication authentication) {
+        String userId = authentication.getName();
+        List<BatchTaskResult> results = taskService.createAll(request.getTasks(), userId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(results);
+    }
+    
+    @PatchMapping("/batch")
+    public ResponseEntity<List<BatchTaskResult>> updateTasks(@Valid @RequestBody BatchUpdateTaskRequest request) {
+        return ResponseEntity.ok(taskService.updateAll(request.getTasks()));
+    }
+    
     @PutMapping("/{id}")
     public ResponseEntity<Task> updateTask(
             @PathVariable String id, 
-            @Valid @RequestBody CreateTaskRequest request) {
-        return taskService.update(id, request)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+            @Valid @RequestBody CreateTaskRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            WebRequest webRequest) {
+        Long expectedVersion = null;
+        if (ifMatch != null) {
+            Optional<ResourceVersion> version = taskService.findVersionById(id);
+            if (version.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            if (webRequest.checkNotModified(version.get().etag(), version.get().lastModifiedMillis())) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            }
+            expectedVersion = version.get().getVersion();
+        }
+        try {
+            return taskService.update(id, request, expectedVersion)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
     }
     
     @DeleteMapping("/{id}")
@@ -57,7 +135,14 @@ public class TaskController {
     }
     
     @GetMapping("/project/{projectId}")
-    public ResponseEntity<List<Task>> getTasksByProject(@PathVariable String projectId) {
-        return ResponseEntity.ok(taskService.findByProjectId(projectId));
+    public ResponseEntity<CursorPage<Task>> getTasksByProject(
+            @PathVariable String projectId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(taskService.findByProjectId(projectId, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
     }
 }
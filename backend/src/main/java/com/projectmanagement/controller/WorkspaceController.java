@@ -1,18 +1,31 @@
 package com.projectmanagement.controller;
 
+import com.projectmanagement.dto.ActivityItem;
 import com.projectmanagement.dto.CreateWorkspaceRequest;
+import com.projectmanagement.dto.CursorPage;
 import com.projectmanagement.dto.InviteMemberRequest;
+import com.projectmanagement.dto.WorkspaceSummaryResponse;
+import com.projectmanagement.dto.ResourceVersion;
 import com.projectmanagement.model.Workspace;
 import com.projectmanagement.model.WorkspaceMember;
+import com.projectmanagement.repository.WorkspaceExportRepository.Section;
+import com.projectmanagement.service.ActivityService;
 import com.projectmanagement.service.WorkspaceService;
+import com.projectmanagement.streaming.ExportFormat;
+import com.projectmanagement.streaming.WorkspaceExporter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/workspaces")
@@ -20,20 +33,71 @@ import java.util.List;
 public class WorkspaceController {
     
     private final WorkspaceService workspaceService;
+    private final ActivityService activityService;
+    private final WorkspaceExporter workspaceExporter;
     
     @GetMapping
-    public ResponseEntity<List<Workspace>> getAllWorkspaces(Authentication authentication) {
+    public ResponseEntity<List<WorkspaceSummaryResponse>> getAllWorkspaces(Authentication authentication) {
         String userId = authentication.getName();
-        return ResponseEntity.ok(workspaceService.findByUserId(userId));
+        return ResponseEntity.ok(workspaceService.findSummariesByUserId(userId));
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<Workspace> getWorkspaceById(@PathVariable String id) {
+    public ResponseEntity<Workspace> getWorkspaceById(@PathVariable String id, WebRequest webRequest) {
+        Optional<ResourceVersion> version = workspaceService.findVersionById(id);
+        if (version.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (webRequest.checkNotModified(version.get().etag(), version.get().lastModifiedMillis())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         return workspaceService.findById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
     
+    @GetMapping("/{id}/activity")
+    public ResponseEntity<CursorPage<ActivityItem>> getWorkspaceActivity(
+            @PathVariable String id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            Authentication authentication) {
+        if (!workspaceService.isVisibleTo(id, authentication.getName())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try {
+            return ResponseEntity.ok(activityService.findByWorkspaceId(id, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+    
+    // ?format=ndjson (default) or csv; ?sections= any of workspace, members, projects, tasks, comments
+    @GetMapping("/{id}/export")
+    public ResponseEntity<StreamingResponseBody> exportWorkspace(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) List<String> sections,
+            Authentication authentication) {
+        ExportFormat exportFormat;
+        List<Section> exported;
+        try {
+            exportFormat = ExportFormat.parse(format);
+            exported = workspaceExporter.sections(sections, exportFormat);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        // 404 rather than 403, so the export does not reveal which workspace ids exist
+        if (!workspaceService.isVisibleTo(id, authentication.getName())) {
+            return ResponseEntity.notFound().build();
+        }
+        String filename = "workspace-" + id + "." + exportFormat.extension();
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(workspaceExporter.export(id, exportFormat, exported));
+    }
+    
     @PostMapping
     public ResponseEntity<Workspace> createWorkspace(
             @Valid @RequestBody CreateWorkspaceRequest request,
@@ -46,10 +110,27 @@ public class WorkspaceController {
     @PutMapping("/{id}")
     public ResponseEntity<Workspace> updateWorkspace(
             @PathVariable String id, 
-            @Valid @RequestBody CreateWorkspaceRequest request) {
-        return workspaceService.update(id, request)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+            @Valid @RequestBody CreateWorkspaceRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            WebRequest webRequest) {
+        Long expectedVersion = null;
+        if (ifMatch != null) {
+            Optional<ResourceVersion> version = workspaceService.findVersionById(id);
+            if (version.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            if (webRequest.checkNotModified(version.get().etag(), version.get().lastModifiedMillis())) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            }
+            expectedVersion = version.get().getVersion();
+        }
+        try {
+            return workspaceService.update(id, request, expectedVersion)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
     }
     
     @DeleteMapping("/{id}")
@@ -0,0 +1,23 @@
+package com.projectmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+public class ActivityItem {
+    private long id;
+    private LocalDateTime occurredAt;
+    private String workspaceId;
+    private String projectId;
+    private String actorId;
+    private String action;
+    private String subjectType;
+    private String subjectId;
+    // Stored as JSONB and passed through without being parsed
+    @JsonRawValue
+    private String details;
+}
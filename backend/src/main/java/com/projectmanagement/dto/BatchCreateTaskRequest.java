@@ -0,0 +1,15 @@
+package com.projectmanagement.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BatchCreateTaskRequest {
+    @NotEmpty(message = "Tasks are required")
+    @Size(max = 5000, message = "At most 5000 tasks per batch")
+    private List<@Valid CreateTaskRequest> tasks;
+}
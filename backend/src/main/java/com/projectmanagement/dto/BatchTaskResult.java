@@ -0,0 +1,18 @@
+package com.projectmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class BatchTaskResult {
+    private int index;
+    private String id;
+    private Status status;
+    
+    public enum Status {
+        CREATED,
+        UPDATED,
+        NOT_FOUND
+    }
+}
@@ -0,0 +1,27 @@
+package com.projectmanagement.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BatchUpdateTaskRequest {
+    @NotEmpty(message = "Tasks are required")
+    @Size(max = 5000, message = "At most 5000 tasks per batch")
+    private List<@Valid Item> tasks;
+    
+    @Data
+    public static class Item {
+        @NotBlank(message = "Task ID is required")
+        private String id;
+        
+        @NotNull(message = "Task changes are required")
+        @Valid
+        private CreateTaskRequest task;
+    }
+}
@@ -0,0 +1,30 @@
+package com.projectmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Change notification pushed to board subscribers; clients re-fetch the entity they need
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardEvent {
+    private Type type;
+    private String workspaceId;
+    private String projectId;
+    private String taskId;
+    private String commentId;
+    private LocalDateTime occurredAt;
+    
+    public enum Type {
+        TASK_CREATED,
+        TASK_UPDATED,
+        TASK_DELETED,
+        TASK_DUE_SOON,
+        TASK_OVERDUE,
+        COMMENT_CREATED,
+        COMMENT_DELETED
+    }
+}
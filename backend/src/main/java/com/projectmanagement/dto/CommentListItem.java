@@ -0,0 +1,17 @@
+package com.projectmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// Comment columns without the user and task graphs; selected by the streaming query
+@Data
+@AllArgsConstructor
+public class CommentListItem {
+    private String id;
+    private String content;
+    private String userId;
+    private String taskId;
+    private LocalDateTime createdAt;
+}
@@ -21,6 +21,5 @@ public class CreateProjectRequest {
     private String teamLead;
     @NotBlank(message = "Workspace ID is required")
     private String workspaceId;
-    private Integer progress = 0;
     private List<String> teamMembers;
 }
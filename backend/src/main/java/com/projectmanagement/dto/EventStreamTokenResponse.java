@@ -0,0 +1,12 @@
+package com.projectmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class EventStreamTokenResponse {
+    // Passed as access_token when opening /api/events/**
+    private String token;
+    private long expiresInMs;
+}
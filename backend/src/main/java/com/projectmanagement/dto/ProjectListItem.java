@@ -0,0 +1,27 @@
+package com.projectmanagement.dto;
+
+import com.projectmanagement.model.enums.Priority;
+import com.projectmanagement.model.enums.ProjectStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// Project columns without the members, tasks, owner or workspace graphs; selected by the streaming queries
+@Data
+@AllArgsConstructor
+public class ProjectListItem {
+    private String id;
+    private String name;
+    private String description;
+    private Priority priority;
+    private ProjectStatus status;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private String teamLead;
+    private String workspaceId;
+    private Integer progress;
+    private Long version;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,23 @@
+package com.projectmanagement.dto;
+
+import com.projectmanagement.model.enums.Priority;
+import com.projectmanagement.model.enums.TaskStatus;
+import com.projectmanagement.model.enums.TaskType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+public class ProjectStatsResponse {
+    private String projectId;
+    private long totalTasks;
+    private Map<TaskStatus, Long> byStatus;
+    private Map<Priority, Long> byPriority;
+    private Map<TaskType, Long> byType;
+    private long overdueTasks;
+    private int progress;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,30 @@
+package com.projectmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+@Data
+@AllArgsConstructor
+public class ResourceVersion {
+    // Optimistic-lock version of the resource itself
+    private Long version;
+    // Versions and digests of everything embedded in the representation, joined by the query
+    private String fingerprint;
+    private LocalDateTime lastModified;
+    
+    public String etag() {
+        return "\"" + DigestUtils.md5DigestAsHex(fingerprint.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+    
+    public long lastModifiedMillis() {
+        if (lastModified == null) {
+            return -1;
+        }
+        return lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
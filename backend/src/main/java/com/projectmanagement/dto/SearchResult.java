@@ -0,0 +1,24 @@
+package com.projectmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// One ranked hit; comments carry the title of their task so the client can show where they belong
+@Data
+@AllArgsConstructor
+public class SearchResult {
+    private Type type;
+    private String id;
+    private String title;
+    private String snippet;
+    private String workspaceId;
+    private String projectId;
+    private String taskId;
+    private float rank;
+    
+    public enum Type {
+        TASK,
+        PROJECT,
+        COMMENT
+    }
+}
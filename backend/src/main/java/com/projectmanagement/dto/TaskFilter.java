@@ -0,0 +1,31 @@
+package com.projectmanagement.dto;
+
+import com.projectmanagement.model.enums.Priority;
+import com.projectmanagement.model.enums.TaskStatus;
+import com.projectmanagement.model.enums.TaskType;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Query parameters of GET /api/tasks; list values are comma separated (status=TODO,IN_PROGRESS)
+@Data
+public class TaskFilter {
+    private List<TaskStatus> status;
+    private List<Priority> priority;
+    private List<TaskType> type;
+    private String projectId;
+    private String workspaceId;
+    // Everything not DONE; combined with status when both are given
+    private Boolean open;
+    
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueFrom;
+    
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueTo;
+    
+    // dueDate (default) or createdAt, prefixed with "-" for descending
+    private String sort;
+}
@@ -0,0 +1,46 @@
+package com.projectmanagement.dto;
+
+import com.projectmanagement.model.enums.Priority;
+import com.projectmanagement.model.enums.TaskStatus;
+import com.projectmanagement.model.enums.TaskType;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// Row of the "my tasks" list and the task streams: no description and no project or assignee graphs, only what
+// a list row shows
+@Data
+public class TaskListItem {
+    private String id;
+    private String projectId;
+    private String title;
+    private TaskStatus status;
+    private TaskType type;
+    private Priority priority;
+    private String assigneeId;
+    private LocalDateTime dueDate;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long version;
+    private Long commentCount;
+    private LocalDateTime lastCommentAt;
+    private String lastCommentPreview;
+    
+    // Selected column by column by TaskListRepository and the streaming queries; the comment summary is filled in
+    // afterwards for pages and left out of streams
+    public TaskListItem(String id, String projectId, String title, TaskStatus status, TaskType type,
+                        Priority priority, String assigneeId, LocalDateTime dueDate,
+                        LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+        this.id = id;
+        this.projectId = projectId;
+        this.title = title;
+        this.status = status;
+        this.type = type;
+        this.priority = priority;
+        this.assigneeId = assigneeId;
+        this.dueDate = dueDate;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+    }
+}
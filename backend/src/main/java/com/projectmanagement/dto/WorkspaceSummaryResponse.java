@@ -0,0 +1,15 @@
+package com.projectmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class WorkspaceSummaryResponse {
+    private String id;
+    private String name;
+    private String slug;
+    private String imageUrl;
+    private long memberCount;
+    private long projectCount;
+}
@@ -0,0 +1,143 @@
+package com.projectmanagement.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.dto.BoardEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Keeps the open SSE connections of this node and delivers every board event received on the
+// notification channel, including the ones this node published itself
+@Slf4j
+@Component
+public class BoardEventBroadcaster {
+    
+    private final ObjectMapper objectMapper;
+    private final long timeoutMs;
+    private final int queueCapacity;
+    private final ExecutorService sendExecutor;
+    private final Map<String, Set<BoardSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    
+    public BoardEventBroadcaster(
+            PostgresNotificationBus notificationBus,
+            ObjectMapper objectMapper,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${events.sse.timeout-ms:1800000}") long timeoutMs,
+            @Value("${events.sse.queue-capacity:256}") int queueCapacity,
+            @Value("${events.sse.send-threads:4}") int sendThreads) {
+        this.objectMapper = objectMapper;
+        this.timeoutMs = timeoutMs;
+        this.queueCapacity = queueCapacity;
+        this.sendExecutor = Executors.newFixedThreadPool(sendThreads, new CustomizableThreadFactory("sse-send-"));
+        
+        notificationBus.subscribe(BoardEventPublisher.CHANNEL, this::onNotification);
+        meterRegistry.ifAvailable(registry -> Gauge.builder("board.sse.connections", connectionCount, AtomicInteger::get)
+                .description("Open board event streams on this node")
+                .register(registry));
+    }
+    
+    public SseEmitter subscribeToProject(String projectId) {
+        return subscribe(projectTopic(projectId));
+    }
+    
+    public SseEmitter subscribeToWorkspace(String workspaceId) {
+        return subscribe(workspaceTopic(workspaceId));
+    }
+    
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+    
+    private SseEmitter subscribe(String topic) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        BoardSubscriber subscriber = new BoardSubscriber(emitter, queueCapacity, sendExecutor);
+        subscribers.computeIfAbsent(topic, t -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        connectionCount.incrementAndGet();
+        
+        Runnable unregister = () -> unregister(topic, subscriber);
+        emitter.onCompletion(unregister);
+        emitter.onTimeout(unregister);
+        emitter.onError(e -> unregister.run());
+        return emitter;
+    }
+    
+    private void unregister(String topic, BoardSubscriber subscriber) {
+        Set<BoardSubscriber> topicSubscribers = subscribers.get(topic);
+        if (topicSubscribers != null && topicSubscribers.remove(subscriber)) {
+            connectionCount.decrementAndGet();
+            if (topicSubscribers.isEmpty()) {
+                subscribers.remove(topic, topicSubscribers);
+            }
+        }
+    }
+    
+    private void onNotification(String payload) {
+        BoardEvent[] events;
+        try {
+            events = objectMapper.readValue(payload, BoardEvent[].class);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed board notification", e);
+            return;
+        }
+        
+        for (BoardEvent event : events) {
+            String data;
+            try {
+                data = objectMapper.writeValueAsString(event);
+            } catch (JsonProcessingException e) {
+                continue;
+            }
+            deliver(projectTopic(event.getProjectId()), event, data);
+            if (event.getWorkspaceId() != null) {
+                deliver(workspaceTopic(event.getWorkspaceId()), event, data);
+            }
+        }
+    }
+    
+    private void deliver(String topic, BoardEvent event, String data) {
+        Set<BoardSubscriber> topicSubscribers = subscribers.get(topic);
+        if (topicSubscribers == null) {
+            return;
+        }
+        for (BoardSubscriber subscriber : topicSubscribers) {
+            subscriber.offer(SseEmitter.event().name(event.getType().name()).data(data));
+        }
+    }
+    
+    // Comment lines keep idle connections open through proxies and surface dead clients
+    @Scheduled(fixedDelayString = "${events.sse.heartbeat-interval-ms:20000}")
+    public void sendHeartbeats() {
+        subscribers.values().forEach(topicSubscribers ->
+            topicSubscribers.forEach(subscriber -> subscriber.offer(SseEmitter.event().comment("heartbeat"))));
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(topicSubscribers -> topicSubscribers.forEach(BoardSubscriber::close));
+        sendExecutor.shutdown();
+    }
+    
+    private static String projectTopic(String projectId) {
+        return "project:" + projectId;
+    }
+    
+    private static String workspaceTopic(String workspaceId) {
+        return "workspace:" + workspaceId;
+    }
+}
@@ -0,0 +1,72 @@
+package com.projectmanagement.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.dto.BoardEvent;
+import com.projectmanagement.model.Comment;
+import com.projectmanagement.model.Task;
+import com.projectmanagement.repository.ProjectRepository;
+import com.projectmanagement.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// Called from service methods inside their transaction: pg_notify is transactional in PostgreSQL,
+// so subscribers on every node only hear about changes that were committed
+@Component
+@RequiredArgsConstructor
+public class BoardEventPublisher {
+    
+    public static final String CHANNEL = "board_events";
+    
+    // Keeps each NOTIFY payload well under PostgreSQL's 8000 byte limit
+    private static final int EVENTS_PER_NOTIFICATION = 20;
+    
+    private final PostgresNotificationBus notificationBus;
+    private final ObjectMapper objectMapper;
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    
+    public void publishTaskEvents(BoardEvent.Type type, Collection<Task> tasks) {
+        publishTaskEvents(type, tasks, Task::getId, Task::getProjectId);
+    }
+    
+    // For callers that only hold task references, such as the due-date reminders
+    public <T> void publishTaskEvents(BoardEvent.Type type, Collection<T> tasks,
+                                      Function<T, String> taskId, Function<T, String> projectId) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, String> workspaceByProject = new HashMap<>();
+        List<BoardEvent> events = new ArrayList<>(tasks.size());
+        for (T task : tasks) {
+            String workspaceId = workspaceByProject.computeIfAbsent(projectId.apply(task),
+                id -> projectRepository.findWorkspaceIdById(id).orElse(null));
+            events.add(new BoardEvent(type, workspaceId, projectId.apply(task), taskId.apply(task), null, now));
+        }
+        publish(events);
+    }
+    
+    public void publishCommentEvent(BoardEvent.Type type, Comment comment) {
+        taskRepository.findProjectScopeById(comment.getTaskId()).ifPresent(scope -> publish(List.of(
+            new BoardEvent(type, scope.getWorkspaceId(), scope.getProjectId(), comment.getTaskId(), comment.getId(),
+                LocalDateTime.now())
+        )));
+    }
+    
+    private void publish(List<BoardEvent> events) {
+        for (int from = 0; from < events.size(); from += EVENTS_PER_NOTIFICATION) {
+            List<BoardEvent> chunk = events.subList(from, Math.min(from + EVENTS_PER_NOTIFICATION, events.size()));
+            try {
+                notificationBus.publish(CHANNEL, objectMapper.writeValueAsString(chunk));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not serialize board events", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.projectmanagement.logging;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+// Puts the matched route and controller method into the MDC, so every log line written while a
+// request is handled (slow queries included) can be traced back to the endpoint that caused it
+public class EndpointMdcInterceptor implements AsyncHandlerInterceptor {
+    
+    public static final String ENDPOINT_KEY = "endpoint";
+    public static final String HANDLER_KEY = "handler";
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        MDC.put(ENDPOINT_KEY, request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI()));
+        if (handler instanceof HandlerMethod handlerMethod) {
+            MDC.put(HANDLER_KEY, handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName());
+        }
+        return true;
+    }
+    
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        clear();
+    }
+    
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // The request thread goes back to the pool while the async part runs elsewhere
+        clear();
+    }
+    
+    private void clear() {
+        MDC.remove(ENDPOINT_KEY);
+        MDC.remove(HANDLER_KEY);
+    }
+}
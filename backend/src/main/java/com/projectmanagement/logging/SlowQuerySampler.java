@@ -0,0 +1,50 @@
+package com.projectmanagement.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Samples the statements Hibernate reports on org.hibernate.SQL_SLOW (hibernate.log_slow_query).
+// A burst of moderately slow queries under load is kept at sampleRate, while anything slower than
+// alwaysLogAboveMs is always logged so the worst outliers are never sampled away
+public class SlowQuerySampler extends TurboFilter {
+    
+    static final String SLOW_QUERY_LOGGER = "org.hibernate.SQL_SLOW";
+    
+    // Hibernate's message is "Slow query took <n> milliseconds [<sql>]"
+    private static final Pattern DURATION = Pattern.compile("took (\\d+) milliseconds");
+    
+    private double sampleRate = 1.0;
+    private long alwaysLogAboveMs = Long.MAX_VALUE;
+    
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format is null when the caller only asks whether the level is enabled
+        if (format == null || !SLOW_QUERY_LOGGER.equals(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        if (durationMillis(format) > alwaysLogAboveMs) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextDouble() < sampleRate ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+    
+    private long durationMillis(String message) {
+        Matcher matcher = DURATION.matcher(message);
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+    
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+    
+    public void setAlwaysLogAboveMs(long alwaysLogAboveMs) {
+        this.alwaysLogAboveMs = alwaysLogAboveMs;
+    }
+}
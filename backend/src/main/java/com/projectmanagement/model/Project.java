@@ -1,12 +1,16 @@
 package com.projectmanagement.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.projectmanagement.cache.CacheRegions;
 import com.projectmanagement.model.enums.Priority;
 import com.projectmanagement.model.enums.ProjectStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -17,10 +21,12 @@ import java.util.List;
 @Entity
 @Table(name = "projects")
 @Data
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Project {
     @Id
+    @EqualsAndHashCode.Include
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
     
@@ -63,6 +69,10 @@ public class Project {
     @Column(nullable = false)
     private Integer progress = 0;
     
+    @Version
+    @Column(columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+    
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
@@ -71,6 +81,7 @@ public class Project {
     
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
     @JsonIgnoreProperties({"project", "user"})
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PROJECT_MEMBER_IDS)
     private List<ProjectMember> members = new ArrayList<>();
     
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
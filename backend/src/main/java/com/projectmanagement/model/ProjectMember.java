@@ -1,20 +1,28 @@
 package com.projectmanagement.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.projectmanagement.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PROJECT_MEMBERS)
 @Table(name = "project_members", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"user_id", "project_id"})
 })
 @Data
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ProjectMember {
     @Id
+    @EqualsAndHashCode.Include
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
     
@@ -0,0 +1,75 @@
+package com.projectmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Per-project task counters, adjusted by TaskService on every task write so that
+// dashboards read one row instead of loading the project's tasks
+@Entity
+@Table(name = "project_task_stats")
+@Data
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@NoArgsConstructor
+public class ProjectTaskStats {
+    @Id
+    @EqualsAndHashCode.Include
+    @Column(name = "project_id")
+    private String projectId;
+    
+    @Column(name = "total_count", nullable = false)
+    private long totalCount;
+    
+    @Column(name = "todo_count", nullable = false)
+    private long todoCount;
+    
+    @Column(name = "in_progress_count", nullable = false)
+    private long inProgressCount;
+    
+    @Column(name = "done_count", nullable = false)
+    private long doneCount;
+    
+    @Column(name = "low_priority_count", nullable = false)
+    private long lowPriorityCount;
+    
+    @Column(name = "medium_priority_count", nullable = false)
+    private long mediumPriorityCount;
+    
+    @Column(name = "high_priority_count", nullable = false)
+    private long highPriorityCount;
+    
+    @Column(name = "task_type_count", nullable = false)
+    private long taskTypeCount;
+    
+    @Column(name = "bug_type_count", nullable = false)
+    private long bugTypeCount;
+    
+    @Column(name = "feature_type_count", nullable = false)
+    private long featureTypeCount;
+    
+    @Column(name = "improvement_type_count", nullable = false)
+    private long improvementTypeCount;
+    
+    @Column(name = "other_type_count", nullable = false)
+    private long otherTypeCount;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    public ProjectTaskStats(String projectId) {
+        this.projectId = projectId;
+    }
+    
+    public int progress() {
+        return totalCount == 0 ? 0 : (int) (doneCount * 100 / totalCount);
+    }
+    
+    @PrePersist
+    @PreUpdate
+    protected void onWrite() {
+        updatedAt = LocalDateTime.now();
+    }
+}
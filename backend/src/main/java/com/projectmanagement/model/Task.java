@@ -1,5 +1,6 @@
 package com.projectmanagement.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.projectmanagement.model.enums.Priority;
 import com.projectmanagement.model.enums.TaskStatus;
@@ -7,6 +8,7 @@ import com.projectmanagement.model.enums.TaskType;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
@@ -16,11 +18,13 @@ import java.util.List;
 @Entity
 @Table(name = "tasks")
 @Data
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Task {
     @Id
+    @EqualsAndHashCode.Include
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
     
@@ -61,16 +65,31 @@ public class Task {
     @Column(name = "due_date", nullable = false)
     private LocalDateTime dueDate;
     
+    @Version
+    @Column(columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+    
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
     
+    // Never serialized: listings carry the comment summary below instead, comments are paged by /api/comments
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true)
-    @JsonIgnoreProperties({"task", "user"})
+    @JsonIgnore
     private List<Comment> comments = new ArrayList<>();
     
+    // Filled in by TaskService for a whole page with one grouped query; null where not loaded
+    @Transient
+    private Long commentCount;
+    
+    @Transient
+    private LocalDateTime lastCommentAt;
+    
+    @Transient
+    private String lastCommentPreview;
+    
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -1,10 +1,14 @@
 package com.projectmanagement.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.projectmanagement.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -15,13 +19,17 @@ import java.util.List;
 import java.util.Map;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.WORKSPACES)
 @Table(name = "workspaces")
 @Data
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Workspace {
     @Id
+    @EqualsAndHashCode.Include
     private String id;
     
     @Column(nullable = false)
@@ -45,6 +53,10 @@ public class Workspace {
     @JsonIgnoreProperties({"workspaces", "ownedWorkspaces", "projects", "tasks", "comments", "projectMembers"})
     private User owner;
     
+    @Version
+    @Column(columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+    
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
@@ -56,6 +68,7 @@ public class Workspace {
     
     @OneToMany(mappedBy = "workspace", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
     @JsonIgnoreProperties({"workspace", "user"})
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.WORKSPACE_MEMBER_IDS)
     private List<WorkspaceMember> members = new ArrayList<>();
     
     @OneToMany(mappedBy = "workspace", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
@@ -1,21 +1,29 @@
 package com.projectmanagement.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.projectmanagement.cache.CacheRegions;
 import com.projectmanagement.model.enums.WorkspaceRole;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.WORKSPACE_MEMBERS)
 @Table(name = "workspace_members", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"user_id", "workspace_id"})
 })
 @Data
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class WorkspaceMember {
     @Id
+    @EqualsAndHashCode.Include
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
     
@@ -0,0 +1,36 @@
+package com.projectmanagement.outbox;
+
+// Events recorded in the outbox. Membership changes belong to the workspace or project they change, so they
+// are delivered in order with that aggregate's other events
+public enum DomainEventType {
+    WORKSPACE_CREATED(AggregateType.WORKSPACE),
+    WORKSPACE_UPDATED(AggregateType.WORKSPACE),
+    WORKSPACE_DELETED(AggregateType.WORKSPACE),
+    WORKSPACE_MEMBER_ADDED(AggregateType.WORKSPACE),
+    PROJECT_CREATED(AggregateType.PROJECT),
+    PROJECT_UPDATED(AggregateType.PROJECT),
+    PROJECT_DELETED(AggregateType.PROJECT),
+    PROJECT_MEMBER_ADDED(AggregateType.PROJECT),
+    TASK_CREATED(AggregateType.TASK),
+    TASK_UPDATED(AggregateType.TASK),
+    TASK_DELETED(AggregateType.TASK),
+    COMMENT_CREATED(AggregateType.COMMENT),
+    COMMENT_DELETED(AggregateType.COMMENT);
+    
+    private final AggregateType aggregateType;
+    
+    DomainEventType(AggregateType aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+    
+    public AggregateType getAggregateType() {
+        return aggregateType;
+    }
+    
+    public enum AggregateType {
+        WORKSPACE,
+        PROJECT,
+        TASK,
+        COMMENT
+    }
+}
@@ -0,0 +1,54 @@
+package com.projectmanagement.outbox;
+
+import com.projectmanagement.model.Comment;
+import com.projectmanagement.model.Project;
+import com.projectmanagement.model.Task;
+import com.projectmanagement.model.Workspace;
+import com.projectmanagement.model.enums.Priority;
+import com.projectmanagement.model.enums.ProjectStatus;
+import com.projectmanagement.model.enums.TaskStatus;
+import com.projectmanagement.model.enums.TaskType;
+
+import java.time.LocalDateTime;
+
+// Outbox payloads: the state a consumer needs without reading the aggregate back, taken when the event is written.
+// Each one holds every field its update endpoint can edit, since the activity log diffs two of them to record
+// what an update changed
+public final class DomainEvents {
+    
+    private DomainEvents() {
+    }
+    
+    public record WorkspaceEvent(String name, String slug, String ownerId, String description, String imageUrl) {
+        public static WorkspaceEvent of(Workspace workspace) {
+            return new WorkspaceEvent(workspace.getName(), workspace.getSlug(), workspace.getOwnerId(),
+                    workspace.getDescription(), workspace.getImageUrl());
+        }
+    }
+    
+    public record ProjectEvent(String workspaceId, String name, String description, ProjectStatus status,
+                               Priority priority, String teamLead, LocalDateTime startDate, LocalDateTime endDate) {
+        public static ProjectEvent of(Project project) {
+            return new ProjectEvent(project.getWorkspaceId(), project.getName(), project.getDescription(),
+                    project.getStatus(), project.getPriority(), project.getTeamLead(), project.getStartDate(),
+                    project.getEndDate());
+        }
+    }
+    
+    public record TaskEvent(String projectId, String title, String description, TaskStatus status, TaskType type,
+                            Priority priority, String assigneeId, LocalDateTime dueDate) {
+        public static TaskEvent of(Task task) {
+            return new TaskEvent(task.getProjectId(), task.getTitle(), task.getDescription(), task.getStatus(),
+                    task.getType(), task.getPriority(), task.getAssigneeId(), task.getDueDate());
+        }
+    }
+    
+    public record CommentEvent(String taskId, String userId) {
+        public static CommentEvent of(Comment comment) {
+            return new CommentEvent(comment.getTaskId(), comment.getUserId());
+        }
+    }
+    
+    public record MemberEvent(String userId, String role) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.projectmanagement.outbox;
+
+// Extension point for work that should run after a write has committed instead of inside its transaction.
+// Beans implementing it are picked up by OutboxDispatcher. Delivery is at least once and in order per
+// aggregate: an exception makes the dispatcher retry the event with backoff, holding back the later events of
+// the same aggregate, and the retry reaches every consumer again, so consumers must be idempotent.
+public interface OutboxConsumer {
+    
+    boolean supports(DomainEventType type);
+    
+    void consume(OutboxEvent event) throws Exception;
+}
@@ -0,0 +1,251 @@
+package com.projectmanagement.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.events.PostgresNotificationBus;
+import com.projectmanagement.repository.OutboxRepository;
+import com.projectmanagement.repository.OutboxRepository.StoredEvent;
+import com.projectmanagement.repository.SchedulerLeaseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Drains outbox_events in batches on its own thread and hands every event to the OutboxConsumer beans that
+// support it. Only the holder of the "outbox-dispatcher" lease dispatches, which keeps the per-aggregate order
+// across nodes. A failed event is retried with exponential backoff and blocks the rest of its aggregate until
+// it succeeds or runs out of attempts; other aggregates in the batch carry on.
+@Slf4j
+@Component
+public class OutboxDispatcher implements SmartLifecycle {
+    
+    static final String LEASE_NAME = "outbox-dispatcher";
+    
+    private final OutboxRepository outboxRepository;
+    private final SchedulerLeaseRepository leaseRepository;
+    private final List<OutboxConsumer> consumers;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final long pollIntervalMs;
+    private final int maxAttempts;
+    private final long retryDelayMs;
+    private final long maxRetryDelayMs;
+    private final long leaseTtlMs;
+    private final long leaseRenewMs;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Semaphore wakeUp = new Semaphore(0);
+    
+    private Counter delivered;
+    private Counter retried;
+    private Counter dead;
+    private Timer lag;
+    
+    private volatile boolean running;
+    private Thread dispatcherThread;
+    private volatile boolean leader;
+    private long lastRenewMs;
+    
+    public OutboxDispatcher(
+            OutboxRepository outboxRepository,
+            SchedulerLeaseRepository leaseRepository,
+            List<OutboxConsumer> consumers,
+            PostgresNotificationBus notificationBus,
+            ObjectMapper objectMapper,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${outbox.batch-size:200}") int batchSize,
+            @Value("${outbox.poll-interval-ms:1000}") long pollIntervalMs,
+            @Value("${outbox.max-attempts:10}") int maxAttempts,
+            @Value("${outbox.retry-delay-ms:1000}") long retryDelayMs,
+            @Value("${outbox.max-retry-delay-ms:300000}") long maxRetryDelayMs,
+            @Value("${outbox.lease-ttl-ms:30000}") long leaseTtlMs,
+            @Value("${outbox.lease-renew-ms:10000}") long leaseRenewMs) {
+        this.outboxRepository = outboxRepository;
+        this.leaseRepository = leaseRepository;
+        this.consumers = consumers;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.pollIntervalMs = pollIntervalMs;
+        this.maxAttempts = maxAttempts;
+        this.retryDelayMs = retryDelayMs;
+        this.maxRetryDelayMs = maxRetryDelayMs;
+        this.leaseTtlMs = leaseTtlMs;
+        this.leaseRenewMs = leaseRenewMs;
+        
+        notificationBus.subscribe(OutboxWriter.CHANNEL, payload -> wakeUp.release());
+        meterRegistry.ifAvailable(registry -> {
+            delivered = outcomeCounter(registry, "delivered");
+            retried = outcomeCounter(registry, "retried");
+            dead = outcomeCounter(registry, "dead");
+            lag = Timer.builder("outbox.lag")
+                    .description("Time from writing an event to delivering it to all consumers")
+                    .register(registry);
+        });
+    }
+    
+    private static Counter outcomeCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("outbox.events")
+                .description("Outbox event deliveries by outcome")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+    
+    @Override
+    public void start() {
+        running = true;
+        dispatcherThread = new Thread(this::run, "outbox-dispatcher");
+        dispatcherThread.setDaemon(true);
+        dispatcherThread.start();
+    }
+    
+    @Override
+    public void stop() {
+        running = false;
+        if (dispatcherThread != null) {
+            wakeUp.release();
+            try {
+                // Lets the event in flight finish, so the lease is never released while this node still dispatches
+                dispatcherThread.join(leaseTtlMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (dispatcherThread.isAlive()) {
+                log.warn("Outbox dispatcher did not stop within {} ms, leaving its lease to expire", leaseTtlMs);
+                return;
+            }
+        }
+        if (leader) {
+            try {
+                leaseRepository.release(LEASE_NAME, nodeId);
+            } catch (DataAccessException e) {
+                log.debug("Could not release the outbox lease", e);
+            }
+        }
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
+    private void run() {
+        while (running) {
+            try {
+                if (holdsLease()) {
+                    drain();
+                }
+            } catch (DataAccessException e) {
+                log.warn("Outbox dispatch failed, retrying in {} ms", pollIntervalMs, e);
+                leader = false;
+            }
+            try {
+                // Woken early by the NOTIFY of a committed write, and by stop()
+                wakeUp.tryAcquire(pollIntervalMs, TimeUnit.MILLISECONDS);
+                wakeUp.drainPermits();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+    
+    // Keeps draining while full batches come back, re-checking the lease before every batch
+    private void drain() {
+        while (running && holdsLease() && dispatchBatch() == batchSize) {
+            // Next batch
+        }
+    }
+    
+    // Renews the lease every leaseRenewMs. A drain can outlast leaseTtlMs, so this is checked between events
+    // too, and dispatch stops as soon as another node has taken over
+    private boolean holdsLease() {
+        long now = System.currentTimeMillis();
+        if (now - lastRenewMs >= leaseRenewMs) {
+            lastRenewMs = now;
+            boolean held = leaseRepository.tryAcquire(LEASE_NAME, nodeId, leaseTtlMs);
+            if (held != leader) {
+                log.info(held ? "Took the outbox dispatcher lease" : "Lost the outbox dispatcher lease");
+            }
+            leader = held;
+        }
+        return leader;
+    }
+    
+    private int dispatchBatch() {
+        List<StoredEvent> batch = outboxRepository.findDispatchable(batchSize);
+        Set<String> blockedAggregates = new HashSet<>();
+        List<Long> deliveredIds = new ArrayList<>(batch.size());
+        for (StoredEvent stored : batch) {
+            if (!running || !holdsLease()) {
+                break;
+            }
+            String aggregate = stored.aggregateType() + ":" + stored.aggregateId();
+            if (blockedAggregates.contains(aggregate)) {
+                continue;
+            }
+            try {
+                deliver(toEvent(stored));
+                deliveredIds.add(stored.id());
+                record(delivered);
+                if (lag != null) {
+                    lag.record(Duration.between(stored.createdAt(), LocalDateTime.now()));
+                }
+            } catch (Exception e) {
+                blockedAggregates.add(aggregate);
+                fail(stored, e);
+            }
+        }
+        outboxRepository.deleteAll(deliveredIds);
+        return batch.size();
+    }
+    
+    private OutboxEvent toEvent(StoredEvent stored) throws JsonProcessingException {
+        return new OutboxEvent(stored.id(), DomainEventType.valueOf(stored.eventType()), stored.aggregateId(),
+                objectMapper.readTree(stored.payload()), stored.createdAt(), stored.attempts());
+    }
+    
+    private void deliver(OutboxEvent event) throws Exception {
+        for (OutboxConsumer consumer : consumers) {
+            if (consumer.supports(event.type())) {
+                consumer.consume(event);
+            }
+        }
+    }
+    
+    private void fail(StoredEvent stored, Exception e) {
+        int attempts = stored.attempts() + 1;
+        String error = e.getClass().getName() + ": " + e.getMessage();
+        if (attempts >= maxAttempts) {
+            log.error("Giving up on outbox event {} ({} {}) after {} attempts",
+                    stored.id(), stored.eventType(), stored.aggregateId(), attempts, e);
+            outboxRepository.markDead(stored.id(), attempts, error);
+            record(dead);
+            return;
+        }
+        long delayMs = Math.min(maxRetryDelayMs, retryDelayMs << Math.min(attempts - 1, 30));
+        log.warn("Outbox event {} ({} {}) failed, retry {} in {} ms: {}",
+                stored.id(), stored.eventType(), stored.aggregateId(), attempts, delayMs, error);
+        outboxRepository.scheduleRetry(stored.id(), attempts, delayMs, error);
+        record(retried);
+    }
+    
+    private static void record(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
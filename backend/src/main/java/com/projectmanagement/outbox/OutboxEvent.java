@@ -0,0 +1,14 @@
+package com.projectmanagement.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.LocalDateTime;
+
+// One outbox row as handed to consumers; attempts counts the earlier failed deliveries
+public record OutboxEvent(long id,
+                          DomainEventType type,
+                          String aggregateId,
+                          JsonNode payload,
+                          LocalDateTime createdAt,
+                          int attempts) {
+}
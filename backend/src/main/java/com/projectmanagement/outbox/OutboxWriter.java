@@ -0,0 +1,56 @@
+package com.projectmanagement.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.events.PostgresNotificationBus;
+import com.projectmanagement.repository.OutboxRepository;
+import com.projectmanagement.repository.OutboxRepository.NewEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+// Records domain events in the caller's transaction, so they exist exactly when the change they describe was
+// committed. Nothing is delivered here; the NOTIFY (sent on commit) only wakes OutboxDispatcher up early
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+    
+    static final String CHANNEL = "outbox_events";
+    
+    private final OutboxRepository outboxRepository;
+    private final PostgresNotificationBus notificationBus;
+    private final ObjectMapper objectMapper;
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(DomainEventType type, String aggregateId, Object payload) {
+        outboxRepository.insertAll(List.of(newEvent(type, aggregateId, payload)));
+        notificationBus.publish(CHANNEL, "");
+    }
+    
+    // One JDBC batch for the events of a batch write
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> void appendAll(DomainEventType type, Collection<T> aggregates,
+                              Function<T, String> aggregateId, Function<T, Object> payload) {
+        if (aggregates.isEmpty()) {
+            return;
+        }
+        outboxRepository.insertAll(aggregates.stream()
+                .map(aggregate -> newEvent(type, aggregateId.apply(aggregate), payload.apply(aggregate)))
+                .toList());
+        notificationBus.publish(CHANNEL, "");
+    }
+    
+    private NewEvent newEvent(DomainEventType type, String aggregateId, Object payload) {
+        try {
+            String json = payload != null ? objectMapper.writeValueAsString(payload) : "{}";
+            return new NewEvent(type.getAggregateType().name(), aggregateId, type.name(), json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + type + " event", e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.projectmanagement.pagination;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PageSizePolicy {
+    
+    private final int defaultSize;
+    private final int maxSize;
+    
+    public PageSizePolicy(
+            @Value("${pagination.default-size:50}") int defaultSize,
+            @Value("${pagination.max-size:200}") int maxSize) {
+        this.defaultSize = defaultSize;
+        this.maxSize = maxSize;
+    }
+    
+    public int resolve(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return Math.min(defaultSize, maxSize);
+        }
+        return Math.min(requested, maxSize);
+    }
+}
@@ -0,0 +1,31 @@
+package com.projectmanagement.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Position of the last search hit of a page: its rank plus the id as tie-breaker
+public record SearchCursor(float rank, String id) {
+    
+    private static final String SEPARATOR = "|";
+    
+    public String encode() {
+        String raw = rank + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public static SearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new SearchCursor(
+                Float.parseFloat(raw.substring(0, separator)),
+                raw.substring(separator + 1)
+            );
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
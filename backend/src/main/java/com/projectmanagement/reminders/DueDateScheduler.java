@@ -0,0 +1,300 @@
+package com.projectmanagement.reminders;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.dto.BoardEvent;
+import com.projectmanagement.events.BoardEventPublisher;
+import com.projectmanagement.events.PostgresNotificationBus;
+import com.projectmanagement.repository.SchedulerLeaseRepository;
+import com.projectmanagement.repository.TaskRepository;
+import com.projectmanagement.repository.TaskRepository.DueTask;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+// Fires TASK_DUE_SOON (due-soon-lead-ms before the due date) and TASK_OVERDUE board events for open tasks.
+// Only the node holding the "due-date-reminders" lease runs it: it keeps the reminders of the next horizon-ms
+// in a timing wheel, refilled in keyset batches from idx_tasks_open_due, and re-reads just the tasks named in
+// TASK_CREATED/UPDATED/DELETED notifications to move their slots. A node that takes the lease over resumes at
+// the previous holder's watermark, so reminders are not lost on failover (at most one renew interval repeats).
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "reminders.enabled", havingValue = "true", matchIfMissing = true)
+public class DueDateScheduler {
+    
+    static final String LEASE_NAME = "due-date-reminders";
+    
+    private static final long TICK_MS = 1000;
+    private static final int WHEEL_SIZE = 60;
+    private static final int WHEEL_LEVELS = 3;
+    // A new holder replays missed reminders, but not further back than this
+    private static final long MAX_CATCH_UP_MS = 3_600_000;
+    
+    private static final Set<BoardEvent.Type> TASK_CHANGES =
+            Set.of(BoardEvent.Type.TASK_CREATED, BoardEvent.Type.TASK_UPDATED, BoardEvent.Type.TASK_DELETED);
+    
+    private final TaskRepository taskRepository;
+    private final SchedulerLeaseRepository leaseRepository;
+    private final BoardEventPublisher boardEventPublisher;
+    private final ObjectMapper objectMapper;
+    private final long dueSoonLeadMs;
+    private final long horizonMs;
+    private final int batchSize;
+    private final long leaseTtlMs;
+    private final long leaseRenewMs;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Queue<String> changedTaskIds = new ConcurrentLinkedQueue<>();
+    private final Map<BoardEvent.Type, Counter> firedCounters = new EnumMap<>(BoardEvent.Type.class);
+    
+    // Driven by the scheduling thread only (the gauge just reads its size); null while another node holds the lease
+    private volatile TimingWheel<Reminder> wheel;
+    private long loadedUntilMs;
+    private long lastRenewMs;
+    private volatile boolean leader;
+    
+    public DueDateScheduler(
+            TaskRepository taskRepository,
+            SchedulerLeaseRepository leaseRepository,
+            BoardEventPublisher boardEventPublisher,
+            PostgresNotificationBus notificationBus,
+            ObjectMapper objectMapper,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${reminders.due-soon-lead-ms:3600000}") long dueSoonLeadMs,
+            @Value("${reminders.horizon-ms:900000}") long horizonMs,
+            @Value("${reminders.batch-size:500}") int batchSize,
+            @Value("${reminders.lease-ttl-ms:30000}") long leaseTtlMs,
+            @Value("${reminders.lease-renew-ms:10000}") long leaseRenewMs) {
+        this.taskRepository = taskRepository;
+        this.leaseRepository = leaseRepository;
+        this.boardEventPublisher = boardEventPublisher;
+        this.objectMapper = objectMapper;
+        this.dueSoonLeadMs = dueSoonLeadMs;
+        this.horizonMs = horizonMs;
+        this.batchSize = batchSize;
+        this.leaseTtlMs = leaseTtlMs;
+        this.leaseRenewMs = leaseRenewMs;
+        
+        long wheelHorizonMs = new TimingWheel<Reminder>(TICK_MS, WHEEL_SIZE, WHEEL_LEVELS, 0).horizonMs();
+        if (horizonMs + MAX_CATCH_UP_MS >= wheelHorizonMs) {
+            throw new IllegalArgumentException("reminders.horizon-ms must stay below " + (wheelHorizonMs - MAX_CATCH_UP_MS));
+        }
+        if (leaseRenewMs >= leaseTtlMs) {
+            throw new IllegalArgumentException("reminders.lease-renew-ms must be shorter than reminders.lease-ttl-ms");
+        }
+        
+        notificationBus.subscribe(BoardEventPublisher.CHANNEL, this::onBoardNotification);
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("reminders.scheduled", this, DueDateScheduler::scheduledCount)
+                    .description("Due-date reminders waiting in the timing wheel of this node")
+                    .register(registry);
+            for (BoardEvent.Type type : List.of(BoardEvent.Type.TASK_DUE_SOON, BoardEvent.Type.TASK_OVERDUE)) {
+                firedCounters.put(type, Counter.builder("reminders.fired")
+                        .description("Due-date reminders published")
+                        .tag("type", type.name())
+                        .register(registry));
+            }
+        });
+    }
+    
+    @Scheduled(fixedDelay = TICK_MS)
+    public void tick() {
+        long now = System.currentTimeMillis();
+        try {
+            if (now - lastRenewMs >= leaseRenewMs) {
+                lastRenewMs = now;
+                renewLease(now);
+            }
+            if (wheel == null) {
+                return;
+            }
+            List<Reminder> due = new ArrayList<>();
+            refreshChangedTasks(due);
+            if (loadedUntilMs - now < horizonMs / 2) {
+                load(now + horizonMs, due);
+            }
+            due.addAll(wheel.advanceTo(now));
+            fire(due);
+        } catch (DataAccessException e) {
+            // Without the database we cannot tell whether the lease is still ours, so step down
+            log.warn("Due-date reminder tick failed, releasing leadership", e);
+            stepDown();
+        }
+    }
+    
+    private void renewLease(long now) {
+        boolean held = leaseRepository.tryAcquire(LEASE_NAME, nodeId, leaseTtlMs);
+        if (held && wheel == null) {
+            start(now);
+        } else if (!held && wheel != null) {
+            log.info("Lost the due-date reminder lease to another node");
+            stepDown();
+        }
+        if (held) {
+            leaseRepository.saveWatermark(LEASE_NAME, nodeId, toDateTime(wheel.currentTimeMs()));
+        }
+    }
+    
+    private void start(long now) {
+        long from = leaseRepository.findWatermark(LEASE_NAME)
+                .map(watermark -> Math.max(toMillis(watermark), now - MAX_CATCH_UP_MS))
+                .orElse(now);
+        changedTaskIds.clear();
+        wheel = new TimingWheel<>(TICK_MS, WHEEL_SIZE, WHEEL_LEVELS, from);
+        loadedUntilMs = wheel.currentTimeMs();
+        leader = true;
+        log.info("Took the due-date reminder lease, resuming from {}", toDateTime(from));
+    }
+    
+    private void stepDown() {
+        leader = false;
+        wheel = null;
+        changedTaskIds.clear();
+    }
+    
+    // Adds the reminders firing in [loadedUntilMs, untilMs): overdue ones for tasks due in that window,
+    // due-soon ones for tasks due dueSoonLeadMs later
+    private void load(long untilMs, List<Reminder> due) {
+        loadWindow(BoardEvent.Type.TASK_OVERDUE, loadedUntilMs, untilMs, 0, due);
+        loadWindow(BoardEvent.Type.TASK_DUE_SOON, loadedUntilMs + dueSoonLeadMs, untilMs + dueSoonLeadMs, dueSoonLeadMs, due);
+        loadedUntilMs = untilMs;
+    }
+    
+    private void loadWindow(BoardEvent.Type type, long fromMs, long toMs, long leadMs, List<Reminder> due) {
+        LocalDateTime afterDueDate = toDateTime(fromMs);
+        String afterId = "";
+        LocalDateTime dueBefore = toDateTime(toMs);
+        List<DueTask> batch;
+        do {
+            batch = taskRepository.findOpenDueAfter(afterDueDate, afterId, dueBefore, batchSize);
+            for (DueTask task : batch) {
+                schedule(new Reminder(type, task.getId(), task.getProjectId(), toMillis(task.getDueDate()) - leadMs), due);
+            }
+            if (!batch.isEmpty()) {
+                DueTask last = batch.get(batch.size() - 1);
+                afterDueDate = last.getDueDate();
+                afterId = last.getId();
+            }
+        } while (batch.size() == batchSize);
+    }
+    
+    // Cancels the reminders of every task that changed since the last tick and schedules them again from the
+    // current row; deleted and finished tasks are simply not found
+    private void refreshChangedTasks(List<Reminder> due) {
+        Set<String> taskIds = new HashSet<>();
+        for (String taskId = changedTaskIds.poll(); taskId != null; taskId = changedTaskIds.poll()) {
+            taskIds.add(taskId);
+        }
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        for (String taskId : taskIds) {
+            wheel.cancel(Reminder.key(BoardEvent.Type.TASK_OVERDUE, taskId));
+            wheel.cancel(Reminder.key(BoardEvent.Type.TASK_DUE_SOON, taskId));
+        }
+        for (DueTask task : taskRepository.findOpenDueByIds(taskIds)) {
+            long dueMs = toMillis(task.getDueDate());
+            scheduleIfLoaded(new Reminder(BoardEvent.Type.TASK_OVERDUE, task.getId(), task.getProjectId(), dueMs), due);
+            scheduleIfLoaded(new Reminder(BoardEvent.Type.TASK_DUE_SOON, task.getId(), task.getProjectId(), dueMs - dueSoonLeadMs), due);
+        }
+    }
+    
+    // Reminders that already passed are dropped; ones past the loaded window are picked up by the next load
+    private void scheduleIfLoaded(Reminder reminder, List<Reminder> due) {
+        if (reminder.fireAtMs() >= wheel.currentTimeMs() && reminder.fireAtMs() < loadedUntilMs) {
+            schedule(reminder, due);
+        }
+    }
+    
+    private void schedule(Reminder reminder, List<Reminder> due) {
+        if (!wheel.schedule(reminder.key(), reminder.fireAtMs(), reminder)) {
+            due.add(reminder);
+        }
+    }
+    
+    private void fire(List<Reminder> due) {
+        if (due.isEmpty()) {
+            return;
+        }
+        Map<BoardEvent.Type, List<Reminder>> byType = due.stream().collect(Collectors.groupingBy(Reminder::type));
+        byType.forEach((type, reminders) -> {
+            boardEventPublisher.publishTaskEvents(type, reminders, Reminder::taskId, Reminder::projectId);
+            Counter counter = firedCounters.get(type);
+            if (counter != null) {
+                counter.increment(reminders.size());
+            }
+        });
+        log.debug("Fired {} due-date reminders", due.size());
+    }
+    
+    private void onBoardNotification(String payload) {
+        if (!leader) {
+            return;
+        }
+        try {
+            for (BoardEvent event : objectMapper.readValue(payload, BoardEvent[].class)) {
+                if (TASK_CHANGES.contains(event.getType()) && event.getTaskId() != null) {
+                    changedTaskIds.add(event.getTaskId());
+                }
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed board notification", e);
+        }
+    }
+    
+    private int scheduledCount() {
+        TimingWheel<Reminder> current = wheel;
+        return current != null ? current.size() : 0;
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        if (leader) {
+            try {
+                leaseRepository.release(LEASE_NAME, nodeId);
+            } catch (DataAccessException e) {
+                log.debug("Could not release the due-date reminder lease", e);
+            }
+        }
+    }
+    
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+    
+    private static LocalDateTime toDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+    
+    record Reminder(BoardEvent.Type type, String taskId, String projectId, long fireAtMs) {
+        
+        String key() {
+            return key(type, taskId);
+        }
+        
+        static String key(BoardEvent.Type type, String taskId) {
+            return type + ":" + taskId;
+        }
+    }
+}
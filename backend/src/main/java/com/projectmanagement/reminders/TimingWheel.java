@@ -0,0 +1,135 @@
+package com.projectmanagement.reminders;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Hierarchical timing wheel: level 0 has wheelSize slots of tickMs, and every level above has slots as wide as
+// a full turn of the level below. Scheduling and cancelling are O(1); advancing visits one level-0 slot per tick
+// and moves the timers of a higher-level slot down a level when its time comes. Timers fire at the start of
+// their tick. Not thread-safe, the owner drives it from a single thread.
+class TimingWheel<T> {
+    
+    private final long tickMs;
+    private final int wheelSize;
+    private final List<List<Set<Timer<T>>>> levels = new ArrayList<>();
+    private final Map<String, Timer<T>> timers = new HashMap<>();
+    private long currentMs;
+    
+    TimingWheel(long tickMs, int wheelSize, int levelCount, long startMs) {
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.currentMs = startMs - startMs % tickMs;
+        for (int level = 0; level < levelCount; level++) {
+            List<Set<Timer<T>>> slots = new ArrayList<>(wheelSize);
+            for (int slot = 0; slot < wheelSize; slot++) {
+                slots.add(new LinkedHashSet<>());
+            }
+            levels.add(slots);
+        }
+    }
+    
+    long currentTimeMs() {
+        return currentMs;
+    }
+    
+    // Timers must expire less than this far after the current time
+    long horizonMs() {
+        return span(levels.size() - 1) * wheelSize;
+    }
+    
+    int size() {
+        return timers.size();
+    }
+    
+    // Replaces any timer with the same key. Returns false, without keeping the timer, when it is already due
+    boolean schedule(String key, long expirationMs, T payload) {
+        cancel(key);
+        if (expirationMs - currentMs < tickMs) {
+            return false;
+        }
+        Timer<T> timer = new Timer<>(key, expirationMs, payload);
+        timers.put(key, timer);
+        place(timer, null);
+        return true;
+    }
+    
+    boolean cancel(String key) {
+        Timer<T> timer = timers.remove(key);
+        if (timer == null) {
+            return false;
+        }
+        timer.slot.remove(timer);
+        return true;
+    }
+    
+    // Moves the wheel forward to nowMs and returns the payloads of every timer that expired on the way
+    List<T> advanceTo(long nowMs) {
+        List<T> expired = new ArrayList<>();
+        while (currentMs + tickMs <= nowMs) {
+            currentMs += tickMs;
+            for (int level = levels.size() - 1; level > 0; level--) {
+                if (currentMs % span(level) == 0) {
+                    Set<Timer<T>> slot = slot(level, currentMs);
+                    List<Timer<T>> cascading = new ArrayList<>(slot);
+                    slot.clear();
+                    cascading.forEach(timer -> place(timer, expired));
+                }
+            }
+            Set<Timer<T>> due = slot(0, currentMs);
+            for (Timer<T> timer : due) {
+                timers.remove(timer.key);
+                expired.add(timer.payload);
+            }
+            due.clear();
+        }
+        return expired;
+    }
+    
+    // Puts the timer on the lowest level whose turn still covers its expiration
+    private void place(Timer<T> timer, List<T> expired) {
+        long delay = timer.expirationMs - currentMs;
+        if (delay < tickMs && expired != null) {
+            timers.remove(timer.key);
+            expired.add(timer.payload);
+            return;
+        }
+        for (int level = 0; level < levels.size(); level++) {
+            if (delay < span(level) * wheelSize) {
+                timer.slot = slot(level, timer.expirationMs);
+                timer.slot.add(timer);
+                return;
+            }
+        }
+        timers.remove(timer.key);
+        throw new IllegalArgumentException("Timer " + timer.key + " expires beyond the wheel horizon");
+    }
+    
+    private Set<Timer<T>> slot(int level, long timeMs) {
+        return levels.get(level).get((int) ((timeMs / span(level)) % wheelSize));
+    }
+    
+    private long span(int level) {
+        long span = tickMs;
+        for (int i = 0; i < level; i++) {
+            span *= wheelSize;
+        }
+        return span;
+    }
+    
+    private static final class Timer<T> {
+        private final String key;
+        private final long expirationMs;
+        private final T payload;
+        private Set<Timer<T>> slot;
+        
+        private Timer(String key, long expirationMs, T payload) {
+            this.key = key;
+            this.expirationMs = expirationMs;
+            this.payload = payload;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.projectmanagement.repository;
+
+import com.projectmanagement.dto.ActivityItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+
+// activity_log rows (see db/migration/V8__activity_log.sql) and the monthly partitions they are stored in
+@Repository
+@RequiredArgsConstructor
+public class ActivityLogRepository {
+    
+    public static final String PARTITION_PREFIX = "activity_log_p";
+    
+    // Rows without an explicit workspace or project take them from the project, or from the project of the task
+    private static final String INSERT_SQL =
+        "INSERT INTO activity_log (workspace_id, project_id, actor_id, action, subject_type, subject_id, details) " +
+        "SELECT COALESCE(?, p.workspace_id), scope.project_id, ?, ?, ?, ?, ?::jsonb " +
+        "FROM (SELECT COALESCE(?, (SELECT t.project_id FROM tasks t WHERE t.id = ?)) AS project_id) scope " +
+        "LEFT JOIN projects p ON p.id = scope.project_id";
+    
+    private static final String SELECT_SQL =
+        "SELECT id, occurred_at, workspace_id, project_id, actor_id, action, subject_type, subject_id, " +
+        "details::text AS details FROM activity_log ";
+    
+    private static final RowMapper<ActivityItem> ROW_MAPPER = (rs, row) -> new ActivityItem(
+        rs.getLong("id"),
+        rs.getTimestamp("occurred_at").toLocalDateTime(),
+        rs.getString("workspace_id"),
+        rs.getString("project_id"),
+        rs.getString("actor_id"),
+        rs.getString("action"),
+        rs.getString("subject_type"),
+        rs.getString("subject_id"),
+        rs.getString("details")
+    );
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    public void insertAll(List<NewActivity> entries) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setString(1, entry.workspaceId());
+            ps.setString(2, entry.actorId());
+            ps.setString(3, entry.action());
+            ps.setString(4, entry.subjectType());
+            ps.setString(5, entry.subjectId());
+            ps.setString(6, entry.details());
+            ps.setString(7, entry.projectId());
+            ps.setString(8, entry.taskId());
+        });
+    }
+    
+    public List<ActivityItem> findByWorkspaceId(String workspaceId, int limit) {
+        return jdbcTemplate.query(SELECT_SQL +
+            "WHERE workspace_id = ? ORDER BY occurred_at DESC, id DESC LIMIT ?", ROW_MAPPER, workspaceId, limit);
+    }
+    
+    // The plain occurred_at bound lets the planner skip later partitions, which the row comparison alone does not
+    public List<ActivityItem> findByWorkspaceIdBefore(String workspaceId, Timestamp occurredAt, long id, int limit) {
+        return jdbcTemplate.query(SELECT_SQL +
+            "WHERE workspace_id = ? AND occurred_at <= ? AND (occurred_at, id) < (?, ?) " +
+            "ORDER BY occurred_at DESC, id DESC LIMIT ?",
+            ROW_MAPPER, workspaceId, occurredAt, occurredAt, id, limit);
+    }
+    
+    public List<ActivityItem> findByProjectId(String projectId, int limit) {
+        return jdbcTemplate.query(SELECT_SQL +
+            "WHERE project_id = ? ORDER BY occurred_at DESC, id DESC LIMIT ?", ROW_MAPPER, projectId, limit);
+    }
+    
+    public List<ActivityItem> findByProjectIdBefore(String projectId, Timestamp occurredAt, long id, int limit) {
+        return jdbcTemplate.query(SELECT_SQL +
+            "WHERE project_id = ? AND occurred_at <= ? AND (occurred_at, id) < (?, ?) " +
+            "ORDER BY occurred_at DESC, id DESC LIMIT ?",
+            ROW_MAPPER, projectId, occurredAt, occurredAt, id, limit);
+    }
+    
+    // First day of the current month by the database clock, which also stamps occurred_at
+    public LocalDate currentMonth() {
+        return jdbcTemplate.queryForObject("SELECT date_trunc('month', now())::date", LocalDate.class);
+    }
+    
+    public void createPartition(LocalDate monthStart) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(monthStart) +
+            " PARTITION OF activity_log FOR VALUES FROM ('" + monthStart + "') TO ('" + monthStart.plusMonths(1) + "')");
+    }
+    
+    public List<String> findPartitionNames() {
+        return jdbcTemplate.queryForList(
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+            "WHERE i.inhparent = 'activity_log'::regclass ORDER BY c.relname", String.class);
+    }
+    
+    // CONCURRENTLY only takes a SHARE UPDATE EXCLUSIVE lock on activity_log, so writes and feeds carry on; it
+    // cannot run inside a transaction, which is why the caller must not be @Transactional
+    public void detachAndDropPartition(String partitionName) {
+        jdbcTemplate.execute("ALTER TABLE activity_log DETACH PARTITION " + partitionName + " CONCURRENTLY");
+        jdbcTemplate.execute("DROP TABLE " + partitionName);
+    }
+    
+    public static String partitionName(LocalDate monthStart) {
+        return PARTITION_PREFIX + String.format("%04d%02d", monthStart.getYear(), monthStart.getMonthValue());
+    }
+    
+    public record NewActivity(String workspaceId, String projectId, String taskId, String actorId, String action,
+                              String subjectType, String subjectId, String details) {
+    }
+}
@@ -1,12 +1,57 @@
 package com.projectmanagement.repository;
 
+import com.projectmanagement.dto.CommentListItem;
 import com.projectmanagement.model.Comment;
+import com.projectmanagement.streaming.JsonArrayStreamer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, String> {
     List<Comment> findByTaskIdOrderByCreatedAtDesc(String taskId);
+    
+    // Keyset pages over (created_at, id) newest first, served by idx_comments_task_created
+    List<Comment> findByTaskIdOrderByCreatedAtDescIdDesc(String taskId, Limit limit);
+    
+    @Query("SELECT c FROM Comment c WHERE c.taskId = :taskId " +
+           "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findByTaskIdBefore(@Param("taskId") String taskId,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") String id,
+                                     Limit limit);
+    
+    // Streamed newest first like the pages, read through a server-side cursor, without the user and task graphs
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = JsonArrayStreamer.FETCH_SIZE))
+    @Query("SELECT new com.projectmanagement.dto.CommentListItem(c.id, c.content, c.userId, c.taskId, c.createdAt) " +
+           "FROM Comment c WHERE c.taskId = :taskId ORDER BY c.createdAt DESC, c.id DESC")
+    Stream<CommentListItem> streamByTaskId(@Param("taskId") String taskId);
+    
+    // Count, newest timestamp and a preview of the newest comment for each task of a page, in one pass over
+    // idx_comments_task_created; tasks without comments have no row
+    @Query(value = "SELECT DISTINCT ON (c.task_id) c.task_id AS taskId, " +
+                   "count(*) OVER (PARTITION BY c.task_id) AS commentCount, " +
+                   "c.created_at AS lastCommentAt, left(c.content, 140) AS lastCommentPreview " +
+                   "FROM comments c WHERE c.task_id IN (:taskIds) " +
+                   "ORDER BY c.task_id, c.created_at DESC, c.id DESC",
+           nativeQuery = true)
+    List<TaskCommentSummary> summarizeByTaskIds(@Param("taskIds") Collection<String> taskIds);
+    
+    interface TaskCommentSummary {
+        String getTaskId();
+        long getCommentCount();
+        LocalDateTime getLastCommentAt();
+        String getLastCommentPreview();
+    }
 }
@@ -0,0 +1,78 @@
+package com.projectmanagement.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+// outbox_events rows (see db/migration/V7__outbox_events.sql). Delivered rows are deleted; rows that ran out of
+// attempts keep their last error and a dead_at timestamp for inspection
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepository {
+    
+    // Rows in id order that are due, skipping every aggregate that has an earlier row still waiting for a retry
+    private static final String DISPATCHABLE_SQL =
+        "SELECT o.id, o.aggregate_type, o.aggregate_id, o.event_type, o.payload::text AS payload, o.created_at, o.attempts " +
+        "FROM outbox_events o " +
+        "WHERE o.dead_at IS NULL AND o.available_at <= now() " +
+        "AND NOT EXISTS (SELECT 1 FROM outbox_events e " +
+        "  WHERE e.aggregate_type = o.aggregate_type AND e.aggregate_id = o.aggregate_id AND e.id < o.id " +
+        "  AND e.dead_at IS NULL AND e.available_at > now()) " +
+        "ORDER BY o.id LIMIT ?";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    public void insertAll(List<NewEvent> events) {
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload) VALUES (?, ?, ?, ?::jsonb)",
+            events, events.size(), (ps, event) -> {
+                ps.setString(1, event.aggregateType());
+                ps.setString(2, event.aggregateId());
+                ps.setString(3, event.eventType());
+                ps.setString(4, event.payload());
+            });
+    }
+    
+    public List<StoredEvent> findDispatchable(int limit) {
+        return jdbcTemplate.query(DISPATCHABLE_SQL, (rs, row) -> new StoredEvent(
+            rs.getLong("id"),
+            rs.getString("aggregate_type"),
+            rs.getString("aggregate_id"),
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getTimestamp("created_at").toLocalDateTime(),
+            rs.getInt("attempts")
+        ), limit);
+    }
+    
+    public void deleteAll(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM outbox_events WHERE id = ANY (?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())));
+    }
+    
+    public void scheduleRetry(long id, int attempts, long delayMs, String error) {
+        jdbcTemplate.update(
+            "UPDATE outbox_events SET attempts = ?, available_at = now() + ? * interval '1 millisecond', last_error = ? " +
+            "WHERE id = ?",
+            attempts, delayMs, error, id);
+    }
+    
+    public void markDead(long id, int attempts, String error) {
+        jdbcTemplate.update("UPDATE outbox_events SET attempts = ?, dead_at = now(), last_error = ? WHERE id = ?",
+                attempts, error, id);
+    }
+    
+    public record NewEvent(String aggregateType, String aggregateId, String eventType, String payload) {
+    }
+    
+    public record StoredEvent(long id, String aggregateType, String aggregateId, String eventType, String payload,
+                              LocalDateTime createdAt, int attempts) {
+    }
+}
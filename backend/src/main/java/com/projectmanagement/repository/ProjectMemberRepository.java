@@ -1,7 +1,10 @@
 package com.projectmanagement.repository;
 
+import com.projectmanagement.model.Project;
 import com.projectmanagement.model.ProjectMember;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,4 +14,10 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, St
     List<ProjectMember> findByProjectId(String projectId);
     List<ProjectMember> findByUserId(String userId);
     boolean existsByUserIdAndProjectId(String userId, String projectId);
+    
+    // Projects the user leads or belongs to; EXISTS keeps each project to a single row
+    @Query("SELECT p FROM Project p " +
+           "WHERE p.teamLead = :userId " +
+           "OR EXISTS (SELECT 1 FROM ProjectMember m WHERE m.projectId = p.id AND m.userId = :userId)")
+    List<Project> findProjectsByLeadOrMember(@Param("userId") String userId);
 }
@@ -1,13 +1,78 @@
 package com.projectmanagement.repository;
 
+import com.projectmanagement.dto.ProjectListItem;
+import com.projectmanagement.dto.ResourceVersion;
 import com.projectmanagement.model.Project;
+import com.projectmanagement.streaming.JsonArrayStreamer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, String> {
+    
+    String PROJECT_LIST_ITEM = "new com.projectmanagement.dto.ProjectListItem(p.id, p.name, p.description, p.priority, " +
+            "p.status, p.startDate, p.endDate, p.teamLead, p.workspaceId, p.progress, p.version, p.createdAt, p.updatedAt)";
+    
     List<Project> findByWorkspaceId(String workspaceId);
     List<Project> findByTeamLead(String teamLead);
+    
+    @Query("SELECT p.workspaceId FROM Project p WHERE p.id = :id")
+    Optional<String> findWorkspaceIdById(@Param("id") String id);
+    
+    // Team lead, project member, or member of the project's workspace
+    @Query("SELECT COUNT(p) > 0 FROM Project p WHERE p.id = :projectId AND (p.teamLead = :userId " +
+           "OR EXISTS (SELECT 1 FROM ProjectMember m WHERE m.projectId = p.id AND m.userId = :userId) " +
+           "OR EXISTS (SELECT 1 FROM WorkspaceMember wm WHERE wm.workspaceId = p.workspaceId AND wm.userId = :userId))")
+    boolean isVisibleTo(@Param("projectId") String projectId, @Param("userId") String userId);
+    
+    // Progress is part of the project representation, so changing it also moves the version
+    @Modifying
+    @Query("UPDATE Project p SET p.progress = :progress, p.version = p.version + 1, p.updatedAt = LOCAL_DATETIME " +
+           "WHERE p.id = :id AND p.progress <> :progress")
+    int updateProgress(@Param("id") String id, @Param("progress") int progress);
+    
+    // Digests of the member ids and of every task's id and version stand in for the eagerly loaded collections.
+    // Counts and version sums would miss a deletion offset by an insert
+    @Query("SELECT new com.projectmanagement.dto.ResourceVersion(p.version, " +
+           "CONCAT(str(p.version), '.', str(w.version), '.', " +
+           "COALESCE((SELECT md5(listagg(m.id, ',') WITHIN GROUP (ORDER BY m.id)) " +
+           "FROM ProjectMember m WHERE m.projectId = p.id), ''), '.', " +
+           "COALESCE((SELECT md5(listagg(CONCAT(t.id, ':', str(t.version)), ',') WITHIN GROUP (ORDER BY t.id)) " +
+           "FROM Task t WHERE t.projectId = p.id), '')), " +
+           "GREATEST(p.updatedAt, w.updatedAt, " +
+           "COALESCE((SELECT MAX(t.updatedAt) FROM Task t WHERE t.projectId = p.id), p.updatedAt))) " +
+           "FROM Project p JOIN p.workspace w WHERE p.id = :id")
+    Optional<ResourceVersion> findVersionById(@Param("id") String id);
+    
+    List<Project> findAllByOrderByCreatedAtAscIdAsc(Limit limit);
+    
+    @Query("SELECT p FROM Project p WHERE (p.createdAt > :createdAt OR (p.createdAt = :createdAt AND p.id > :id)) ORDER BY p.createdAt, p.id")
+    List<Project> findAllAfter(@Param("createdAt") LocalDateTime createdAt,
+                               @Param("id") String id,
+                               Limit limit);
+    
+    // Streaming variants read through a server-side cursor, selected straight into ProjectListItem so the eager
+    // members and tasks collections are never loaded
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = JsonArrayStreamer.FETCH_SIZE))
+    @Query("SELECT " + PROJECT_LIST_ITEM + " FROM Project p WHERE p.workspaceId = :workspaceId ORDER BY p.createdAt, p.id")
+    Stream<ProjectListItem> streamByWorkspaceId(@Param("workspaceId") String workspaceId);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = JsonArrayStreamer.FETCH_SIZE))
+    @Query("SELECT " + PROJECT_LIST_ITEM + " FROM Project p " +
+           "WHERE p.teamLead = :userId " +
+           "OR EXISTS (SELECT 1 FROM ProjectMember m WHERE m.projectId = p.id AND m.userId = :userId) " +
+           "ORDER BY p.createdAt, p.id")
+    Stream<ProjectListItem> streamByLeadOrMember(@Param("userId") String userId);
 }
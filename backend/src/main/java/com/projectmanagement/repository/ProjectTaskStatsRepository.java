@@ -0,0 +1,32 @@
+package com.projectmanagement.repository;
+
+import com.projectmanagement.model.ProjectTaskStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ProjectTaskStatsRepository extends JpaRepository<ProjectTaskStats, String> {
+    
+    // Row lock serializes concurrent task writes of the same project while the counters are adjusted
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProjectTaskStats s WHERE s.projectId = :projectId")
+    Optional<ProjectTaskStats> findForUpdate(@Param("projectId") String projectId);
+    
+    // Creates an all-zero row unless one exists. A concurrent caller waits for the first insert to commit and
+    // then inserts nothing, instead of failing on the primary key
+    @Modifying
+    @Query(value = "INSERT INTO project_task_stats (project_id, total_count, todo_count, in_progress_count, " +
+                   "done_count, low_priority_count, medium_priority_count, high_priority_count, task_type_count, " +
+                   "bug_type_count, feature_type_count, improvement_type_count, other_type_count, updated_at) " +
+                   "VALUES (:projectId, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, LOCALTIMESTAMP) " +
+                   "ON CONFLICT (project_id) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("projectId") String projectId);
+}
@@ -0,0 +1,49 @@
+package com.projectmanagement.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+
+// Named leases in scheduler_leases that elect a single node for a background job. Expiry is computed with the
+// database clock, so clock skew between application nodes does not matter. The watermark records how far the
+// current holder has got, so the next holder can resume from there
+@Repository
+@RequiredArgsConstructor
+public class SchedulerLeaseRepository {
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    // Takes the lease when it is free or expired, extends it when this owner already holds it
+    public boolean tryAcquire(String name, String owner, long ttlMs) {
+        int updated = jdbcTemplate.update(
+            "INSERT INTO scheduler_leases (name, owner, expires_at) " +
+            "VALUES (?, ?, now() + ? * interval '1 millisecond') " +
+            "ON CONFLICT (name) DO UPDATE SET owner = EXCLUDED.owner, expires_at = EXCLUDED.expires_at " +
+            "WHERE scheduler_leases.owner = EXCLUDED.owner OR scheduler_leases.expires_at < now()",
+            name, owner, ttlMs);
+        return updated == 1;
+    }
+    
+    public Optional<LocalDateTime> findWatermark(String name) {
+        return jdbcTemplate.query("SELECT watermark FROM scheduler_leases WHERE name = ?",
+                (rs, row) -> rs.getTimestamp("watermark"), name).stream()
+            .filter(Objects::nonNull)
+            .findFirst()
+            .map(Timestamp::toLocalDateTime);
+    }
+    
+    public void saveWatermark(String name, String owner, LocalDateTime watermark) {
+        jdbcTemplate.update("UPDATE scheduler_leases SET watermark = ? WHERE name = ? AND owner = ?",
+                Timestamp.valueOf(watermark), name, owner);
+    }
+    
+    // Lets another node take over right away instead of waiting for the lease to expire
+    public void release(String name, String owner) {
+        jdbcTemplate.update("UPDATE scheduler_leases SET expires_at = now() WHERE name = ? AND owner = ?", name, owner);
+    }
+}
@@ -0,0 +1,83 @@
+package com.projectmanagement.repository;
+
+import com.projectmanagement.dto.SearchResult;
+import com.projectmanagement.pagination.SearchCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// Native full-text queries over the trigger-maintained search_vector columns
+// (see db/migration/V3__full_text_search.sql)
+@Repository
+@RequiredArgsConstructor
+public class SearchRepository {
+    
+    // Every branch joins the caller's workspaces (narrowed to :workspaceId when given) before it matches and ranks,
+    // so other tenants' rows are never ranked. Depending on how selective the term is, the planner either starts
+    // from the GIN index and drops rows outside those workspaces, or walks the workspaces' projects, tasks and
+    // comments through their foreign-key indexes and matches only those rows. Highlighting is the expensive part,
+    // so it only runs for the rows of the requested page; hits without a body (a task or project with no
+    // description) are highlighted in their title instead
+    private static final String SEARCH_SQL =
+        "WITH q AS (SELECT to_tsquery('simple', :query) AS query), " +
+        "scope AS (" +
+        "  SELECT w.id FROM workspaces w " +
+        "  WHERE (w.owner_id = :userId " +
+        "    OR EXISTS (SELECT 1 FROM workspace_members wm WHERE wm.workspace_id = w.id AND wm.user_id = :userId)) " +
+        "  AND (CAST(:workspaceId AS VARCHAR) IS NULL OR w.id = :workspaceId)" +
+        "), " +
+        "hits AS (" +
+        "  SELECT 'TASK' AS type, t.id, t.title, t.description AS body, p.workspace_id, t.project_id, t.id AS task_id, " +
+        "         ts_rank(t.search_vector, q.query) AS rank " +
+        "  FROM scope s JOIN projects p ON p.workspace_id = s.id JOIN tasks t ON t.project_id = p.id, q " +
+        "  WHERE t.search_vector @@ q.query " +
+        "  UNION ALL " +
+        "  SELECT 'PROJECT', p.id, p.name, p.description, p.workspace_id, p.id, NULL, " +
+        "         ts_rank(p.search_vector, q.query) " +
+        "  FROM scope s JOIN projects p ON p.workspace_id = s.id, q " +
+        "  WHERE p.search_vector @@ q.query " +
+        "  UNION ALL " +
+        "  SELECT 'COMMENT', c.id, t.title, c.content, p.workspace_id, t.project_id, t.id, " +
+        "         ts_rank(c.search_vector, q.query) " +
+        "  FROM scope s JOIN projects p ON p.workspace_id = s.id JOIN tasks t ON t.project_id = p.id " +
+        "  JOIN comments c ON c.task_id = t.id, q " +
+        "  WHERE c.search_vector @@ q.query" +
+        "), " +
+        "page AS (" +
+        "  SELECT h.* FROM hits h " +
+        "  WHERE CAST(:afterRank AS REAL) IS NULL OR h.rank < :afterRank OR (h.rank = :afterRank AND h.id > :afterId) " +
+        "  ORDER BY h.rank DESC, h.id " +
+        "  LIMIT :limit" +
+        ") " +
+        "SELECT page.type, page.id, page.title, page.workspace_id, page.project_id, page.task_id, page.rank, " +
+        "       ts_headline('simple', coalesce(nullif(page.body, ''), page.title), q.query, 'MaxFragments=1, MaxWords=20, MinWords=5') AS snippet " +
+        "FROM page, q " +
+        "ORDER BY page.rank DESC, page.id";
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    
+    // Returns up to limit rows; tsQuery must already be a valid to_tsquery expression
+    public List<SearchResult> search(String userId, String tsQuery, String workspaceId, SearchCursor after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", tsQuery)
+                .addValue("userId", userId)
+                .addValue("workspaceId", workspaceId)
+                .addValue("afterRank", after != null ? after.rank() : null)
+                .addValue("afterId", after != null ? after.id() : null)
+                .addValue("limit", limit);
+        
+        return jdbcTemplate.query(SEARCH_SQL, params, (rs, rowNum) -> new SearchResult(
+                SearchResult.Type.valueOf(rs.getString("type")),
+                rs.getString("id"),
+                rs.getString("title"),
+                rs.getString("snippet"),
+                rs.getString("workspace_id"),
+                rs.getString("project_id"),
+                rs.getString("task_id"),
+                rs.getFloat("rank")
+        ));
+    }
+}
@@ -0,0 +1,76 @@
+package com.projectmanagement.repository;
+
+import com.projectmanagement.dto.TaskListItem;
+import com.projectmanagement.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Filtered "my tasks" pages selected straight into TaskListItem, so neither the description nor any
+// association is read
+@Repository
+@RequiredArgsConstructor
+public class TaskListRepository {
+    
+    private final EntityManager entityManager;
+    
+    public List<TaskListItem> find(Specification<Task> specification, Ordering ordering, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskListItem> query = cb.createQuery(TaskListItem.class);
+        Root<Task> task = query.from(Task.class);
+        query.select(cb.construct(TaskListItem.class,
+                task.get("id"), task.get("projectId"), task.get("title"), task.get("status"), task.get("type"),
+                task.get("priority"), task.get("assigneeId"), task.get("dueDate"),
+                task.get("createdAt"), task.get("updatedAt"), task.get("version")));
+        
+        Predicate predicate = specification.toPredicate(task, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        Path<Object> position = task.get(ordering.attribute());
+        Path<Object> id = task.get("id");
+        List<Order> order = ordering.descending()
+                ? List.of(cb.desc(position), cb.desc(id))
+                : List.of(cb.asc(position), cb.asc(id));
+        query.orderBy(order);
+        
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList();
+    }
+    
+    // Sort column of the keyset; only timestamp columns that lead an index after assignee_id are offered
+    public record Ordering(String attribute, boolean descending) {
+        
+        public static final Ordering DEFAULT = new Ordering("dueDate", false);
+        
+        // "dueDate", "createdAt", or either with a "-" prefix for descending
+        public static Ordering parse(String sort) {
+            if (sort == null || sort.isEmpty()) {
+                return DEFAULT;
+            }
+            boolean descending = sort.startsWith("-");
+            String attribute = descending ? sort.substring(1) : sort;
+            if (!attribute.equals("dueDate") && !attribute.equals("createdAt")) {
+                throw new IllegalArgumentException("Unsupported sort: " + sort);
+            }
+            return new Ordering(attribute, descending);
+        }
+        
+        public LocalDateTime positionOf(TaskListItem item) {
+            return attribute.equals("createdAt") ? item.getCreatedAt() : item.getDueDate();
+        }
+    }
+}
@@ -1,13 +1,101 @@
 package com.projectmanagement.repository;
 
+import com.projectmanagement.dto.ResourceVersion;
+import com.projectmanagement.dto.TaskListItem;
 import com.projectmanagement.model.Task;
+import com.projectmanagement.streaming.JsonArrayStreamer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import com.projectmanagement.model.enums.TaskStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, String> {
+    
+    String TASK_LIST_ITEM = "new com.projectmanagement.dto.TaskListItem(t.id, t.projectId, t.title, t.status, t.type, " +
+            "t.priority, t.assigneeId, t.dueDate, t.createdAt, t.updatedAt, t.version)";
+    
     List<Task> findByProjectId(String projectId);
-    List<Task> findByAssigneeId(String assigneeId);
+    
+    // Unpaged variants for the streaming endpoints, read through a server-side cursor. Rows are selected straight
+    // into TaskListItem: a managed Task would drag its project, and with it every task of the project, into the
+    // serializer
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = JsonArrayStreamer.FETCH_SIZE))
+    @Query("SELECT " + TASK_LIST_ITEM + " FROM Task t WHERE t.projectId = :projectId ORDER BY t.createdAt, t.id")
+    Stream<TaskListItem> streamByProjectId(@Param("projectId") String projectId);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = JsonArrayStreamer.FETCH_SIZE))
+    @Query("SELECT " + TASK_LIST_ITEM + " FROM Task t WHERE t.assigneeId = :assigneeId ORDER BY t.dueDate, t.id")
+    Stream<TaskListItem> streamByAssigneeId(@Param("assigneeId") String assigneeId);
+    
+    // Comments are created and deleted but never edited, so a digest of their ids covers them; a count would
+    // miss a deletion followed by a new comment
+    @Query("SELECT new com.projectmanagement.dto.ResourceVersion(t.version, " +
+           "CONCAT(str(t.version), '.', str(p.version), '.', " +
+           "COALESCE((SELECT md5(listagg(c.id, ',') WITHIN GROUP (ORDER BY c.id)) " +
+           "FROM Comment c WHERE c.taskId = t.id), '')), " +
+           "GREATEST(t.updatedAt, p.updatedAt, " +
+           "COALESCE((SELECT MAX(c.createdAt) FROM Comment c WHERE c.taskId = t.id), t.updatedAt))) " +
+           "FROM Task t JOIN t.project p WHERE t.id = :id")
+    Optional<ResourceVersion> findVersionById(@Param("id") String id);
+    
+    @Query("SELECT p.id AS projectId, p.workspaceId AS workspaceId FROM Task t JOIN t.project p WHERE t.id = :id")
+    Optional<ProjectScope> findProjectScopeById(@Param("id") String id);
+    
+    @Query("SELECT t.status, t.priority, t.type, COUNT(t) FROM Task t " +
+           "WHERE t.projectId = :projectId GROUP BY t.status, t.priority, t.type")
+    List<Object[]> countGroupedByProjectId(@Param("projectId") String projectId);
+    
+    // Served by idx_tasks_project_due
+    long countByProjectIdAndStatusNotAndDueDateBefore(String projectId, TaskStatus status, LocalDateTime dueDate);
+    
+    // Keyset pages over (created_at, id), served by idx_tasks_project_created
+    List<Task> findByProjectIdOrderByCreatedAtAscIdAsc(String projectId, Limit limit);
+    
+    @Query("SELECT t FROM Task t WHERE t.projectId = :projectId " +
+           "AND (t.createdAt > :createdAt OR (t.createdAt = :createdAt AND t.id > :id)) " +
+           "ORDER BY t.createdAt, t.id")
+    List<Task> findByProjectIdAfter(@Param("projectId") String projectId,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") String id,
+                                    Limit limit);
+
+    // Open tasks due before :dueBefore, in keyset batches after (afterDueDate, afterId); served by the partial
+    // idx_tasks_open_due, so finished history is never read
+    @Query(value = "SELECT t.id AS id, t.project_id AS projectId, t.due_date AS dueDate FROM tasks t " +
+                   "WHERE t.status <> 'DONE' AND t.due_date < :dueBefore " +
+                   "AND (t.due_date > :afterDueDate OR (t.due_date = :afterDueDate AND t.id > :afterId)) " +
+                   "ORDER BY t.due_date, t.id LIMIT :limit",
+           nativeQuery = true)
+    List<DueTask> findOpenDueAfter(@Param("afterDueDate") LocalDateTime afterDueDate,
+                                   @Param("afterId") String afterId,
+                                   @Param("dueBefore") LocalDateTime dueBefore,
+                                   @Param("limit") int limit);
+    
+    @Query(value = "SELECT t.id AS id, t.project_id AS projectId, t.due_date AS dueDate FROM tasks t " +
+                   "WHERE t.id IN (:ids) AND t.status <> 'DONE'",
+           nativeQuery = true)
+    List<DueTask> findOpenDueByIds(@Param("ids") Collection<String> ids);
+    
+    interface DueTask {
+        String getId();
+        String getProjectId();
+        LocalDateTime getDueDate();
+    }
+    
+    interface ProjectScope {
+        String getProjectId();
+        String getWorkspaceId();
+    }
 }
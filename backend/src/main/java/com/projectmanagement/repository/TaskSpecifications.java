@@ -0,0 +1,80 @@
+package com.projectmanagement.repository;
+
+import com.projectmanagement.dto.TaskFilter;
+import com.projectmanagement.model.Project;
+import com.projectmanagement.model.Task;
+import com.projectmanagement.model.enums.TaskStatus;
+import com.projectmanagement.pagination.KeysetCursor;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+// Predicates of the "my tasks" query; filters left empty contribute nothing to the WHERE clause.
+// The indexes only lead on assignee and the sort column: idx_tasks_assignee_status_due returns due-date order
+// for a single status, idx_tasks_assignee_open_due for open=true, idx_tasks_assignee_due and
+// idx_tasks_assignee_created for everything else. Several statuses, priority, type, project and workspace are
+// checked on the rows those indexes return, which is cheap because one assignee's tasks are few.
+public final class TaskSpecifications {
+    
+    private TaskSpecifications() {
+    }
+    
+    public static Specification<Task> assignedTo(String assigneeId) {
+        return (task, query, cb) -> cb.equal(task.get("assigneeId"), assigneeId);
+    }
+    
+    public static Specification<Task> matching(TaskFilter filter) {
+        Specification<Task> specification = Specification.where(null);
+        if (filter.getStatus() != null && !filter.getStatus().isEmpty()) {
+            specification = specification.and((task, query, cb) -> task.get("status").in(filter.getStatus()));
+        }
+        if (Boolean.TRUE.equals(filter.getOpen())) {
+            specification = specification.and((task, query, cb) ->
+                    // A literal rather than a bind parameter, so the planner can match the partial index
+                    cb.notEqual(task.get("status"), cb.literal(TaskStatus.DONE)));
+        }
+        if (filter.getPriority() != null && !filter.getPriority().isEmpty()) {
+            specification = specification.and((task, query, cb) -> task.get("priority").in(filter.getPriority()));
+        }
+        if (filter.getType() != null && !filter.getType().isEmpty()) {
+            specification = specification.and((task, query, cb) -> task.get("type").in(filter.getType()));
+        }
+        if (filter.getProjectId() != null && !filter.getProjectId().isEmpty()) {
+            specification = specification.and((task, query, cb) -> cb.equal(task.get("projectId"), filter.getProjectId()));
+        }
+        if (filter.getWorkspaceId() != null && !filter.getWorkspaceId().isEmpty()) {
+            specification = specification.and((task, query, cb) -> {
+                Subquery<String> projectIds = query.subquery(String.class);
+                Root<Project> project = projectIds.from(Project.class);
+                projectIds.select(project.get("id")).where(cb.equal(project.get("workspaceId"), filter.getWorkspaceId()));
+                return task.get("projectId").in(projectIds);
+            });
+        }
+        if (filter.getDueFrom() != null) {
+            specification = specification.and((task, query, cb) ->
+                    cb.greaterThanOrEqualTo(task.<LocalDateTime>get("dueDate"), filter.getDueFrom()));
+        }
+        if (filter.getDueTo() != null) {
+            specification = specification.and((task, query, cb) ->
+                    cb.lessThan(task.<LocalDateTime>get("dueDate"), filter.getDueTo()));
+        }
+        return specification;
+    }
+    
+    // Rows strictly after the cursor in (attribute, id) order
+    public static Specification<Task> after(TaskListRepository.Ordering ordering, KeysetCursor cursor) {
+        return (task, query, cb) -> {
+            Path<LocalDateTime> position = task.get(ordering.attribute());
+            Path<String> id = task.get("id");
+            if (ordering.descending()) {
+                return cb.or(cb.lessThan(position, cursor.position()),
+                        cb.and(cb.equal(position, cursor.position()), cb.lessThan(id, cursor.id())));
+            }
+            return cb.or(cb.greaterThan(position, cursor.position()),
+                    cb.and(cb.equal(position, cursor.position()), cb.greaterThan(id, cursor.id())));
+        };
+    }
+}
@@ -1,13 +1,35 @@
 package com.projectmanagement.repository;
 
 import com.projectmanagement.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
+    // Looked up on every login and invitation; the cached id list is dropped whenever the users table changes
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
+    
     boolean existsByEmail(String email);
+    
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
+    
+    List<User> findAllByOrderByCreatedAtAscIdAsc(Limit limit);
+    
+    @Query("SELECT u FROM User u WHERE (u.createdAt > :createdAt OR (u.createdAt = :createdAt AND u.id > :id)) ORDER BY u.createdAt, u.id")
+    List<User> findAllAfter(@Param("createdAt") LocalDateTime createdAt,
+                            @Param("id") String id,
+                            Limit limit);
 }
@@ -0,0 +1,61 @@
+package com.projectmanagement.repository;
+
+import com.projectmanagement.streaming.JsonArrayStreamer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.Locale;
+
+// Plain column reads of everything that belongs to a workspace, for the export. Rows go straight from the
+// result set to the caller without entities or a persistence context, so nothing accumulates while reading
+@Repository
+public class WorkspaceExportRepository {
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    public WorkspaceExportRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        // A server-side cursor read in batches; PostgreSQL only honours this inside a transaction
+        this.jdbcTemplate.setFetchSize(Integer.parseInt(JsonArrayStreamer.FETCH_SIZE));
+    }
+    
+    public <T> T read(Section section, String workspaceId, ResultSetExtractor<T> extractor) {
+        return jdbcTemplate.query(section.sql, extractor, workspaceId);
+    }
+    
+    public enum Section {
+        WORKSPACE("SELECT w.id, w.name, w.slug, w.description, w.owner_id, w.image_url, w.settings::text AS settings, " +
+                  "w.created_at, w.updated_at FROM workspaces w WHERE w.id = ?"),
+        MEMBERS("SELECT m.id, m.user_id, u.name, u.email, m.role, m.message " +
+                "FROM workspace_members m JOIN users u ON u.id = m.user_id WHERE m.workspace_id = ?"),
+        PROJECTS("SELECT p.id, p.name, p.description, p.status, p.priority, p.start_date, p.end_date, p.team_lead, " +
+                 "p.progress, p.created_at, p.updated_at FROM projects p WHERE p.workspace_id = ?"),
+        TASKS("SELECT t.id, t.project_id, t.title, t.description, t.status, t.type, t.priority, t.assignee_id, " +
+              "t.due_date, t.created_at, t.updated_at " +
+              "FROM tasks t JOIN projects p ON p.id = t.project_id WHERE p.workspace_id = ?"),
+        COMMENTS("SELECT c.id, c.task_id, c.user_id, c.content, c.created_at " +
+                 "FROM comments c JOIN tasks t ON t.id = c.task_id JOIN projects p ON p.id = t.project_id " +
+                 "WHERE p.workspace_id = ?");
+        
+        private final String sql;
+        
+        Section(String sql) {
+            this.sql = sql;
+        }
+        
+        public String label() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+        
+        public static Section parse(String label) {
+            for (Section section : values()) {
+                if (section.label().equals(label)) {
+                    return section;
+                }
+            }
+            throw new IllegalArgumentException("Unknown export section: " + label);
+        }
+    }
+}
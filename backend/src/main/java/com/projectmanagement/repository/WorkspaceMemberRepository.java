@@ -1,7 +1,10 @@
 package com.projectmanagement.repository;
 
+import com.projectmanagement.model.Workspace;
 import com.projectmanagement.model.WorkspaceMember;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,4 +16,10 @@ public interface WorkspaceMemberRepository extends JpaRepository<WorkspaceMember
     List<WorkspaceMember> findByUserId(String userId);
     Optional<WorkspaceMember> findByUserIdAndWorkspaceId(String userId, String workspaceId);
     boolean existsByUserIdAndWorkspaceId(String userId, String workspaceId);
+    
+    // Workspaces the user owns or belongs to; EXISTS keeps each workspace to a single row
+    @Query("SELECT w FROM Workspace w " +
+           "WHERE w.ownerId = :userId " +
+           "OR EXISTS (SELECT 1 FROM WorkspaceMember m WHERE m.workspaceId = w.id AND m.userId = :userId)")
+    List<Workspace> findWorkspacesByOwnerOrMember(@Param("userId") String userId);
 }
@@ -1,7 +1,14 @@
 package com.projectmanagement.repository;
 
+import com.projectmanagement.dto.ResourceVersion;
+import com.projectmanagement.dto.WorkspaceSummaryResponse;
 import com.projectmanagement.model.Workspace;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,7 +16,36 @@ import java.util.Optional;
 
 @Repository
 public interface WorkspaceRepository extends JpaRepository<Workspace, String> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Workspace> findBySlug(String slug);
+    
     List<Workspace> findByOwnerId(String ownerId);
     boolean existsBySlug(String slug);
+    
+    // Single round trip: counts come from correlated subqueries, no collections are initialized
+    @Query("SELECT new com.projectmanagement.dto.WorkspaceSummaryResponse(" +
+           "w.id, w.name, w.slug, w.imageUrl, " +
+           "(SELECT COUNT(m) FROM WorkspaceMember m WHERE m.workspaceId = w.id), " +
+           "(SELECT COUNT(p) FROM Project p WHERE p.workspaceId = w.id)) " +
+           "FROM Workspace w " +
+           "WHERE w.ownerId = :userId " +
+           "OR EXISTS (SELECT 1 FROM WorkspaceMember wm WHERE wm.workspaceId = w.id AND wm.userId = :userId) " +
+           "ORDER BY w.createdAt")
+    List<WorkspaceSummaryResponse> findSummariesByUserId(@Param("userId") String userId);
+    
+    @Query("SELECT COUNT(w) > 0 FROM Workspace w WHERE w.id = :workspaceId AND (w.ownerId = :userId " +
+           "OR EXISTS (SELECT 1 FROM WorkspaceMember wm WHERE wm.workspaceId = w.id AND wm.userId = :userId))")
+    boolean isVisibleTo(@Param("workspaceId") String workspaceId, @Param("userId") String userId);
+    
+    // Members and projects are embedded in the workspace JSON, so digests of their ids and versions feed the ETag
+    @Query("SELECT new com.projectmanagement.dto.ResourceVersion(w.version, " +
+           "CONCAT(str(w.version), '.', " +
+           "COALESCE((SELECT md5(listagg(m.id, ',') WITHIN GROUP (ORDER BY m.id)) " +
+           "FROM WorkspaceMember m WHERE m.workspaceId = w.id), ''), '.', " +
+           "COALESCE((SELECT md5(listagg(CONCAT(p.id, ':', str(p.version)), ',') WITHIN GROUP (ORDER BY p.id)) " +
+           "FROM Project p WHERE p.workspaceId = w.id), '')), " +
+           "GREATEST(w.updatedAt, " +
+           "COALESCE((SELECT MAX(p.updatedAt) FROM Project p WHERE p.workspaceId = w.id), w.updatedAt))) " +
+           "FROM Workspace w WHERE w.id = :id")
+    Optional<ResourceVersion> findVersionById(@Param("id") String id);
 }
@@ -1,5 +1,9 @@
 package com.projectmanagement.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,10 +20,16 @@ import java.util.ArrayList;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
+    public static final String EVENT_STREAM_TOKEN_PARAMETER = "access_token";
+    
     private final JwtTokenProvider tokenProvider;
+    private final VerifiedTokenCache tokenCache;
+    private final MeterRegistry meterRegistry;
     
-    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider) {
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, VerifiedTokenCache tokenCache, MeterRegistry meterRegistry) {
         this.tokenProvider = tokenProvider;
+        this.tokenCache = tokenCache;
+        this.meterRegistry = meterRegistry;
     }
     
     @Override
@@ -27,10 +37,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         
         String token = getTokenFromRequest(request);
+        String userId = token != null ? resolveUserId(token) : resolveEventStreamUserId(request);
         
-        if (token != null && tokenProvider.validateToken(token)) {
-            String userId = tokenProvider.getUserIdFromToken(token);
-            
+        if (userId != null) {
             UsernamePasswordAuthenticationToken authentication = 
                 new UsernamePasswordAuthenticationToken(userId, null, new ArrayList<>());
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -41,6 +50,52 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
     
+    private String resolveUserId(String token) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String userId = tokenCache.getUserId(token);
+        if (userId != null) {
+            sample.stop(authenticationTimer("cached"));
+            return userId;
+        }
+        
+        // Verify signature and expiry once, then remember the result until the token expires
+        try {
+            Claims claims = tokenProvider.parseClaims(token);
+            if (tokenProvider.isEventStreamToken(claims)) {
+                sample.stop(authenticationTimer("rejected"));
+                return null;
+            }
+            tokenCache.put(token, claims.getSubject(), claims.getExpiration());
+            sample.stop(authenticationTimer("verified"));
+            return claims.getSubject();
+        } catch (JwtException | IllegalArgumentException e) {
+            sample.stop(authenticationTimer("rejected"));
+            return null;
+        }
+    }
+    
+    // Event streams are opened by EventSource, which cannot set headers; they carry a short-lived stream token
+    // in the query string instead. Only accepted there, and never cached: each token opens one stream
+    private String resolveEventStreamUserId(HttpServletRequest request) {
+        String token = request.getParameter(EVENT_STREAM_TOKEN_PARAMETER);
+        if (token == null || !"GET".equals(request.getMethod()) || !request.getRequestURI().startsWith("/api/events/")) {
+            return null;
+        }
+        try {
+            return tokenProvider.parseEventStreamClaims(token).getSubject();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+    
+    // Cache hits and full signature checks cost very different amounts, so the outcome is a tag
+    private Timer authenticationTimer(String outcome) {
+        return Timer.builder("security.jwt.authentication")
+                .description("Time spent resolving the bearer token of a request")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+    
     private String getTokenFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
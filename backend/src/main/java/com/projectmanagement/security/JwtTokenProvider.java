@@ -11,14 +11,27 @@ import java.util.Date;
 @Component
 public class JwtTokenProvider {
     
-    @Value("${jwt.secret:mySecretKeyThatIsAtLeast256BitsLongForHS512Algorithm}")
-    private String jwtSecret;
+    // Claim that marks a stream token; such tokens are only accepted for opening an event stream
+    private static final String SCOPE_CLAIM = "scope";
+    private static final String EVENT_STREAM_SCOPE = "events";
     
-    @Value("${jwt.expiration:86400000}") // 24 hours
-    private long jwtExpiration;
+    private final long jwtExpiration;
+    private final long eventStreamExpiration;
     
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    // Key derivation and parser construction are done once instead of per call
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    
+    public JwtTokenProvider(
+            @Value("${jwt.secret:mySecretKeyThatIsAtLeast256BitsLongForHS512Algorithm}") String jwtSecret,
+            @Value("${jwt.expiration:86400000}") long jwtExpiration, // 24 hours
+            @Value("${jwt.event-stream-expiration:60000}") long eventStreamExpiration) {
+        this.jwtExpiration = jwtExpiration;
+        this.eventStreamExpiration = eventStreamExpiration;
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
     
     public String generateToken(String userId) {
@@ -29,27 +42,55 @@ public class JwtTokenProvider {
                 .subject(userId)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
     
-    public String getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    // EventSource cannot send an Authorization header, so event streams are opened with this token in the
+    // query string instead. It expires quickly and is rejected everywhere else, which keeps the long-lived
+    // token out of URLs and logs
+    public String generateEventStreamToken(String userId) {
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + eventStreamExpiration);
         
-        return claims.getSubject();
+        return Jwts.builder()
+                .subject(userId)
+                .claim(SCOPE_CLAIM, EVENT_STREAM_SCOPE)
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .signWith(signingKey)
+                .compact();
+    }
+    
+    public long getEventStreamExpiration() {
+        return eventStreamExpiration;
+    }
+    
+    // Verifies signature and expiry and returns the claims in a single parse; throws JwtException if invalid
+    public Claims parseClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+    
+    // Like parseClaims, but only accepts stream tokens
+    public Claims parseEventStreamClaims(String token) {
+        Claims claims = parseClaims(token);
+        if (!isEventStreamToken(claims)) {
+            throw new JwtException("Not an event stream token");
+        }
+        return claims;
+    }
+    
+    public boolean isEventStreamToken(Claims claims) {
+        return EVENT_STREAM_SCOPE.equals(claims.get(SCOPE_CLAIM, String.class));
+    }
+    
+    public String getUserIdFromToken(String token) {
+        return parseClaims(token).getSubject();
     }
     
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token);
-            return true;
+            return !isEventStreamToken(parseClaims(token));
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
@@ -0,0 +1,82 @@
+package com.projectmanagement.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// Bounded cache of already-verified tokens, keyed by a SHA-256 digest of the token
+// so raw tokens are never retained. Each entry expires with the token's exp; once the
+// cache is full Caffeine evicts the least valuable entries (size-based W-TinyLFU) in
+// amortized constant time, so a full cache of live sessions still caches new tokens.
+@Component
+public class VerifiedTokenCache {
+    
+    private final int maxSize;
+    private final Cache<String, VerifiedToken> entries;
+    
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxSize, 0))
+                .expireAfter(new UntilTokenExpires())
+                .build();
+    }
+    
+    public String getUserId(String token) {
+        VerifiedToken entry = entries.getIfPresent(digest(token));
+        return entry != null ? entry.userId() : null;
+    }
+    
+    public void put(String token, String userId, Date expiration) {
+        if (maxSize <= 0 || userId == null || expiration == null
+                || expiration.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+        entries.put(digest(token), new VerifiedToken(userId, expiration.getTime()));
+    }
+    
+    public long size() {
+        return entries.estimatedSize();
+    }
+    
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+    
+    private record VerifiedToken(String userId, long expiresAt) {
+    }
+    
+    // An entry lives until its token's exp; reads do not extend it
+    private static class UntilTokenExpires implements Expiry<String, VerifiedToken> {
+        
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(value.expiresAt() - System.currentTimeMillis(), 0));
+        }
+        
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+        
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.projectmanagement.service;
+
+import com.projectmanagement.dto.ActivityItem;
+import com.projectmanagement.dto.CursorPage;
+import com.projectmanagement.pagination.KeysetCursor;
+import com.projectmanagement.pagination.PageSizePolicy;
+import com.projectmanagement.repository.ActivityLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ActivityService {
+    
+    private final ActivityLogRepository activityLogRepository;
+    private final PageSizePolicy pageSizePolicy;
+    
+    // Newest first; a cursor bounds occurred_at, so only the partitions at and before it are read
+    public CursorPage<ActivityItem> findByWorkspaceId(String workspaceId, String cursor, Integer limit) {
+        int pageSize = pageSizePolicy.resolve(limit);
+        List<ActivityItem> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = activityLogRepository.findByWorkspaceId(workspaceId, pageSize + 1);
+        } else {
+            KeysetCursor before = KeysetCursor.decode(cursor);
+            rows = activityLogRepository.findByWorkspaceIdBefore(workspaceId,
+                    Timestamp.valueOf(before.position()), parseId(before), pageSize + 1);
+        }
+        return CursorPage.of(rows, pageSize, ActivityService::cursorOf);
+    }
+    
+    public CursorPage<ActivityItem> findByProjectId(String projectId, String cursor, Integer limit) {
+        int pageSize = pageSizePolicy.resolve(limit);
+        List<ActivityItem> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = activityLogRepository.findByProjectId(projectId, pageSize + 1);
+        } else {
+            KeysetCursor before = KeysetCursor.decode(cursor);
+            rows = activityLogRepository.findByProjectIdBefore(projectId,
+                    Timestamp.valueOf(before.position()), parseId(before), pageSize + 1);
+        }
+        return CursorPage.of(rows, pageSize, ActivityService::cursorOf);
+    }
+    
+    private static KeysetCursor cursorOf(ActivityItem item) {
+        return new KeysetCursor(item.getOccurredAt(), String.valueOf(item.getId()));
+    }
+    
+    // NumberFormatException is an IllegalArgumentException, so a tampered cursor is answered with 400
+    private static long parseId(KeysetCursor cursor) {
+        return Long.parseLong(cursor.id());
+    }
+}
@@ -1,15 +1,28 @@
 package com.projectmanagement.service;
 
+import com.projectmanagement.activity.ActivityEntry;
+import com.projectmanagement.activity.ActivityLog;
+import com.projectmanagement.dto.BoardEvent;
+import com.projectmanagement.dto.CommentListItem;
 import com.projectmanagement.dto.CreateCommentRequest;
+import com.projectmanagement.dto.CursorPage;
+import com.projectmanagement.events.BoardEventPublisher;
 import com.projectmanagement.model.Comment;
+import com.projectmanagement.outbox.DomainEventType;
+import com.projectmanagement.outbox.DomainEvents.CommentEvent;
+import com.projectmanagement.outbox.OutboxWriter;
+import com.projectmanagement.pagination.KeysetCursor;
+import com.projectmanagement.pagination.PageSizePolicy;
 import com.projectmanagement.repository.CommentRepository;
 import com.projectmanagement.repository.TaskRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -17,9 +30,26 @@ public class CommentService {
     
     private final CommentRepository commentRepository;
     private final TaskRepository taskRepository;
+    private final PageSizePolicy pageSizePolicy;
+    private final BoardEventPublisher boardEventPublisher;
+    private final OutboxWriter outboxWriter;
+    private final ActivityLog activityLog;
     
-    public List<Comment> findByTaskId(String taskId) {
-        return commentRepository.findByTaskIdOrderByCreatedAtDesc(taskId);
+    public Stream<CommentListItem> streamByTaskId(String taskId) {
+        return commentRepository.streamByTaskId(taskId);
+    }
+    
+    public CursorPage<Comment> findByTaskId(String taskId, String cursor, Integer limit) {
+        int pageSize = pageSizePolicy.resolve(limit);
+        Limit fetch = Limit.of(pageSize + 1);
+        List<Comment> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = commentRepository.findByTaskIdOrderByCreatedAtDescIdDesc(taskId, fetch);
+        } else {
+            KeysetCursor before = KeysetCursor.decode(cursor);
+            rows = commentRepository.findByTaskIdBefore(taskId, before.position(), before.id(), fetch);
+        }
+        return CursorPage.of(rows, pageSize, comment -> new KeysetCursor(comment.getCreatedAt(), comment.getId()));
     }
     
     @Transactional
@@ -35,11 +65,20 @@ public class CommentService {
         comment.setUserId(userId);
         comment.setContent(request.getContent());
         
-        return commentRepository.save(comment);
+        Comment saved = commentRepository.save(comment);
+        boardEventPublisher.publishCommentEvent(BoardEvent.Type.COMMENT_CREATED, saved);
+        outboxWriter.append(DomainEventType.COMMENT_CREATED, saved.getId(), CommentEvent.of(saved));
+        activityLog.record(ActivityEntry.comment(DomainEventType.COMMENT_CREATED, saved, CommentEvent.of(saved)));
+        return saved;
     }
     
     @Transactional
     public void delete(String id) {
-        commentRepository.deleteById(id);
+        commentRepository.findById(id).ifPresent(comment -> {
+            commentRepository.delete(comment);
+            boardEventPublisher.publishCommentEvent(BoardEvent.Type.COMMENT_DELETED, comment);
+            outboxWriter.append(DomainEventType.COMMENT_DELETED, comment.getId(), CommentEvent.of(comment));
+            activityLog.record(ActivityEntry.comment(DomainEventType.COMMENT_DELETED, comment, CommentEvent.of(comment)));
+        });
     }
 }
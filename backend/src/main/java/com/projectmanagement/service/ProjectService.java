@@ -1,20 +1,36 @@
 package com.projectmanagement.service;
 
+import com.projectmanagement.activity.ActivityEntry;
+import com.projectmanagement.activity.ActivityLog;
 import com.projectmanagement.dto.CreateProjectRequest;
+import com.projectmanagement.dto.CursorPage;
+import com.projectmanagement.dto.ProjectListItem;
+import com.projectmanagement.dto.ResourceVersion;
 import com.projectmanagement.model.Project;
 import com.projectmanagement.model.ProjectMember;
 import com.projectmanagement.model.User;
+import com.projectmanagement.outbox.DomainEventType;
+import com.projectmanagement.outbox.DomainEvents.MemberEvent;
+import com.projectmanagement.outbox.DomainEvents.ProjectEvent;
+import com.projectmanagement.outbox.OutboxWriter;
+import com.projectmanagement.pagination.KeysetCursor;
+import com.projectmanagement.pagination.PageSizePolicy;
 import com.projectmanagement.repository.ProjectMemberRepository;
 import com.projectmanagement.repository.ProjectRepository;
 import com.projectmanagement.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -23,26 +39,47 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final ProjectMemberRepository projectMemberRepository;
     private final UserRepository userRepository;
+    private final PageSizePolicy pageSizePolicy;
+    private final ProjectStatsService projectStatsService;
+    private final OutboxWriter outboxWriter;
+    private final ActivityLog activityLog;
     
-    public List<Project> findAll() {
-        return projectRepository.findAll();
+    public CursorPage<Project> findAll(String cursor, Integer limit) {
+        int pageSize = pageSizePolicy.resolve(limit);
+        Limit fetch = Limit.of(pageSize + 1);
+        List<Project> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = projectRepository.findAllByOrderByCreatedAtAscIdAsc(fetch);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = projectRepository.findAllAfter(after.position(), after.id(), fetch);
+        }
+        return CursorPage.of(rows, pageSize, project -> new KeysetCursor(project.getCreatedAt(), project.getId()));
     }
     
     public Optional<Project> findById(String id) {
         return projectRepository.findById(id);
     }
     
+    public Optional<ResourceVersion> findVersionById(String id) {
+        return projectRepository.findVersionById(id);
+    }
+    
+    public boolean isVisibleTo(String id, String userId) {
+        return projectRepository.isVisibleTo(id, userId);
+    }
+    
     @Transactional
     public Project create(CreateProjectRequest request, String currentUserId) {
         Project project = new Project();
-        project.setId(UUID.randomUUID().toString());
         project.setName(request.getName());
         project.setDescription(request.getDescription());
         project.setStatus(request.getStatus());
         project.setPriority(request.getPriority());
         project.setStartDate(request.getStartDate());
         project.setEndDate(request.getEndDate());
-        project.setProgress(request.getProgress() != null ? request.getProgress() : 0);
+        // Progress is derived from task statistics; a new project has no tasks yet
+        project.setProgress(0);
         project.setWorkspaceId(request.getWorkspaceId());
         
         // Set team lead (default to current user if not provided)
@@ -53,72 +90,81 @@ public class ProjectService {
         
         Project savedProject = projectRepository.save(project);
         
-        // Add team members
-        List<String> membersToAdd = new ArrayList<>();
+        // Add team members, including the team lead, without duplicates
+        Set<String> candidateIds = new LinkedHashSet<>();
         if (request.getTeamMembers() != null) {
-            membersToAdd.addAll(request.getTeamMembers());
+            candidateIds.addAll(request.getTeamMembers());
         }
+        candidateIds.add(teamLead);
         
-        // Add team lead as member if not already included
-        if (!membersToAdd.contains(teamLead)) {
-            membersToAdd.add(teamLead);
-        }
-        
-        for (String userId : membersToAdd) {
-            if (userRepository.existsById(userId)) {
-                ProjectMember member = new ProjectMember();
-                member.setId(UUID.randomUUID().toString());
-                member.setUserId(userId);
-                member.setProjectId(savedProject.getId());
-                projectMemberRepository.save(member);
-            }
-        }
+        // Resolve all candidates with one IN query and insert the memberships as one JDBC batch;
+        // ids are left to the generator so saveAll persists without a SELECT per row
+        Set<String> existingIds = new HashSet<>(userRepository.findExistingIds(candidateIds));
+        List<ProjectMember> members = candidateIds.stream()
+                .filter(existingIds::contains)
+                .map(userId -> {
+                    ProjectMember member = new ProjectMember();
+                    member.setUserId(userId);
+                    member.setProjectId(savedProject.getId());
+                    return member;
+                })
+                .toList();
+        projectMemberRepository.saveAll(members);
+        projectStatsService.initialize(savedProject.getId());
+        outboxWriter.append(DomainEventType.PROJECT_CREATED, savedProject.getId(), ProjectEvent.of(savedProject));
+        activityLog.record(ActivityEntry.project(DomainEventType.PROJECT_CREATED, savedProject, ProjectEvent.of(savedProject)));
         
         return savedProject;
     }
     
     @Transactional
-    public Optional<Project> update(String id, CreateProjectRequest request) {
+    public Optional<Project> update(String id, CreateProjectRequest request, Long expectedVersion) {
         return projectRepository.findById(id)
                 .map(project -> {
+                    checkVersion(project, expectedVersion);
+                    ProjectEvent before = ProjectEvent.of(project);
                     project.setName(request.getName());
                     project.setDescription(request.getDescription());
                     project.setStatus(request.getStatus());
                     project.setPriority(request.getPriority());
                     project.setStartDate(request.getStartDate());
                     project.setEndDate(request.getEndDate());
-                    project.setProgress(request.getProgress() != null ? request.getProgress() : project.getProgress());
                     if (request.getTeamLead() != null && !request.getTeamLead().isEmpty()) {
                         project.setTeamLead(request.getTeamLead());
                     }
-                    return projectRepository.save(project);
+                    Project saved = projectRepository.save(project);
+                    outboxWriter.append(DomainEventType.PROJECT_UPDATED, saved.getId(), ProjectEvent.of(saved));
+                    activityLog.record(ActivityEntry.project(DomainEventType.PROJECT_UPDATED, saved,
+                            activityLog.changes(before, ProjectEvent.of(saved))));
+                    return saved;
                 });
     }
     
     @Transactional
     public void delete(String id) {
-        projectRepository.deleteById(id);
+        projectRepository.findById(id).ifPresent(project -> {
+            projectRepository.delete(project);
+            outboxWriter.append(DomainEventType.PROJECT_DELETED, id, ProjectEvent.of(project));
+            activityLog.record(ActivityEntry.project(DomainEventType.PROJECT_DELETED, project, ProjectEvent.of(project)));
+        });
+        projectStatsService.delete(id);
     }
     
     public List<Project> findByWorkspaceId(String workspaceId) {
         return projectRepository.findByWorkspaceId(workspaceId);
     }
     
+    public Stream<ProjectListItem> streamByWorkspaceId(String workspaceId) {
+        return projectRepository.streamByWorkspaceId(workspaceId);
+    }
+    
+    public Stream<ProjectListItem> streamByUserId(String userId) {
+        return projectRepository.streamByLeadOrMember(userId);
+    }
+    
     public List<Project> findByUserId(String userId) {
         // Get projects where user is team lead or member
-        List<Project> ledProjects = projectRepository.findByTeamLead(userId);
-        List<ProjectMember> memberships = projectMemberRepository.findByUserId(userId);
-        
-        List<Project> memberProjects = memberships.stream()
-                .map(m -> projectRepository.findById(m.getProjectId()))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .toList();
-        
-        // Combine and remove duplicates
-        return java.util.stream.Stream.concat(ledProjects.stream(), memberProjects.stream())
-                .distinct()
-                .toList();
+        return projectMemberRepository.findProjectsByLeadOrMember(userId);
     }
     
     @Transactional
@@ -143,6 +189,16 @@ public class ProjectService {
         member.setUserId(user.getId());
         member.setProjectId(projectId);
         
-        return projectMemberRepository.save(member);
+        ProjectMember saved = projectMemberRepository.save(member);
+        MemberEvent added = new MemberEvent(user.getId(), null);
+        outboxWriter.append(DomainEventType.PROJECT_MEMBER_ADDED, projectId, added);
+        activityLog.record(ActivityEntry.project(DomainEventType.PROJECT_MEMBER_ADDED, projectId, added));
+        return saved;
+    }
+    
+    private static void checkVersion(Project entity, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(entity.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Project.class, entity.getId());
+        }
     }
 }
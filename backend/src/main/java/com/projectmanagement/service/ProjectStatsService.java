@@ -0,0 +1,179 @@
+package com.projectmanagement.service;
+
+import com.projectmanagement.dto.ProjectStatsResponse;
+import com.projectmanagement.model.ProjectTaskStats;
+import com.projectmanagement.model.Task;
+import com.projectmanagement.model.enums.Priority;
+import com.projectmanagement.model.enums.TaskStatus;
+import com.projectmanagement.model.enums.TaskType;
+import com.projectmanagement.repository.ProjectRepository;
+import com.projectmanagement.repository.ProjectTaskStatsRepository;
+import com.projectmanagement.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class ProjectStatsService {
+    
+    private final ProjectTaskStatsRepository statsRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    
+    public Optional<ProjectStatsResponse> findByProjectId(String projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            return Optional.empty();
+        }
+        // Counted on the fly, without writing, for a project whose row has not been created yet
+        ProjectTaskStats stats = statsRepository.findById(projectId)
+                .orElseGet(() -> count(projectId));
+        long overdue = taskRepository.countByProjectIdAndStatusNotAndDueDateBefore(
+            projectId, TaskStatus.DONE, LocalDateTime.now());
+        return Optional.of(toResponse(stats, overdue));
+    }
+    
+    @Transactional
+    public void initialize(String projectId) {
+        statsRepository.save(new ProjectTaskStats(projectId));
+    }
+    
+    @Transactional
+    public void delete(String projectId) {
+        statsRepository.deleteById(projectId);
+    }
+    
+    @Transactional
+    public void recordCreated(Collection<Task> tasks) {
+        recordChanges(tasks.stream().map(TaskChange::added).toList());
+    }
+    
+    @Transactional
+    public void recordDeleted(Task task) {
+        recordChanges(List.of(TaskChange.removed(task)));
+    }
+    
+    // Recounts a project from the tasks table, for rows written outside the services (bulk loads)
+    @Transactional
+    public void refresh(String projectId) {
+        ProjectTaskStats stats = statsRepository.save(count(projectId));
+        projectRepository.updateProgress(projectId, stats.progress());
+    }
+    
+    // An update is recorded as the removal of the previous state plus the addition of the new one
+    @Transactional
+    public void recordChanges(List<TaskChange> changes) {
+        // Group by project so each stats row is locked and written once per call
+        Map<String, List<TaskChange>> byProject = new LinkedHashMap<>();
+        for (TaskChange change : changes) {
+            byProject.computeIfAbsent(change.projectId(), id -> new ArrayList<>()).add(change);
+        }
+        
+        byProject.forEach((projectId, projectChanges) -> {
+            // V9 backfilled the rows of existing projects; one still missing is created here first, so that
+            // concurrent writers always have a row to lock rather than each inserting their own
+            boolean created = statsRepository.insertIfAbsent(projectId) > 0;
+            ProjectTaskStats stats = statsRepository.findForUpdate(projectId)
+                    .orElseThrow(() -> new IllegalStateException("No stats row for project " + projectId));
+            if (created) {
+                // Counted once from the tasks table, which already contains this transaction's changes after the flush
+                taskRepository.flush();
+                countInto(stats, projectId);
+            } else {
+                projectChanges.forEach(change -> adjust(stats, change));
+            }
+            projectRepository.updateProgress(projectId, stats.progress());
+        });
+    }
+    
+    private ProjectTaskStats count(String projectId) {
+        ProjectTaskStats stats = new ProjectTaskStats(projectId);
+        countInto(stats, projectId);
+        return stats;
+    }
+    
+    private void countInto(ProjectTaskStats stats, String projectId) {
+        for (Object[] row : taskRepository.countGroupedByProjectId(projectId)) {
+            TaskChange group = new TaskChange(projectId, (TaskStatus) row[0], (Priority) row[1], (TaskType) row[2],
+                ((Number) row[3]).longValue());
+            adjust(stats, group);
+        }
+    }
+    
+    private static void adjust(ProjectTaskStats stats, TaskChange change) {
+        long delta = change.delta();
+        stats.setTotalCount(stats.getTotalCount() + delta);
+        
+        switch (change.status()) {
+            case TODO -> stats.setTodoCount(stats.getTodoCount() + delta);
+            case IN_PROGRESS -> stats.setInProgressCount(stats.getInProgressCount() + delta);
+            case DONE -> stats.setDoneCount(stats.getDoneCount() + delta);
+        }
+        switch (change.priority()) {
+            case LOW -> stats.setLowPriorityCount(stats.getLowPriorityCount() + delta);
+            case MEDIUM -> stats.setMediumPriorityCount(stats.getMediumPriorityCount() + delta);
+            case HIGH -> stats.setHighPriorityCount(stats.getHighPriorityCount() + delta);
+        }
+        switch (change.type()) {
+            case TASK -> stats.setTaskTypeCount(stats.getTaskTypeCount() + delta);
+            case BUG -> stats.setBugTypeCount(stats.getBugTypeCount() + delta);
+            case FEATURE -> stats.setFeatureTypeCount(stats.getFeatureTypeCount() + delta);
+            case IMPROVEMENT -> stats.setImprovementTypeCount(stats.getImprovementTypeCount() + delta);
+            case OTHER -> stats.setOtherTypeCount(stats.getOtherTypeCount() + delta);
+        }
+    }
+    
+    private static ProjectStatsResponse toResponse(ProjectTaskStats stats, long overdue) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        byStatus.put(TaskStatus.TODO, stats.getTodoCount());
+        byStatus.put(TaskStatus.IN_PROGRESS, stats.getInProgressCount());
+        byStatus.put(TaskStatus.DONE, stats.getDoneCount());
+        
+        Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+        byPriority.put(Priority.LOW, stats.getLowPriorityCount());
+        byPriority.put(Priority.MEDIUM, stats.getMediumPriorityCount());
+        byPriority.put(Priority.HIGH, stats.getHighPriorityCount());
+        
+        Map<TaskType, Long> byType = new EnumMap<>(TaskType.class);
+        byType.put(TaskType.TASK, stats.getTaskTypeCount());
+        byType.put(TaskType.BUG, stats.getBugTypeCount());
+        byType.put(TaskType.FEATURE, stats.getFeatureTypeCount());
+        byType.put(TaskType.IMPROVEMENT, stats.getImprovementTypeCount());
+        byType.put(TaskType.OTHER, stats.getOtherTypeCount());
+        
+        return new ProjectStatsResponse(
+            stats.getProjectId(),
+            stats.getTotalCount(),
+            byStatus,
+            byPriority,
+            byType,
+            overdue,
+            stats.progress(),
+            stats.getUpdatedAt()
+        );
+    }
+    
+    public record TaskChange(String projectId, TaskStatus status, Priority priority, TaskType type, long delta) {
+        
+        public static TaskChange added(Task task) {
+            return new TaskChange(task.getProjectId(), task.getStatus(), task.getPriority(), task.getType(), 1);
+        }
+        
+        public static TaskChange removed(String projectId, TaskStatus status, Priority priority, TaskType type) {
+            return new TaskChange(projectId, status, priority, type, -1);
+        }
+        
+        public static TaskChange removed(Task task) {
+            return new TaskChange(task.getProjectId(), task.getStatus(), task.getPriority(), task.getType(), -1);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.projectmanagement.service;
+
+import com.projectmanagement.dto.CursorPage;
+import com.projectmanagement.dto.SearchResult;
+import com.projectmanagement.pagination.PageSizePolicy;
+import com.projectmanagement.pagination.SearchCursor;
+import com.projectmanagement.repository.SearchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+    
+    private static final Pattern TERM_SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_TERMS = 8;
+    
+    private final SearchRepository searchRepository;
+    private final PageSizePolicy pageSizePolicy;
+    
+    public CursorPage<SearchResult> search(String userId, String query, String workspaceId, String cursor, Integer limit) {
+        String tsQuery = toTsQuery(query);
+        int pageSize = pageSizePolicy.resolve(limit);
+        SearchCursor after = cursor != null ? SearchCursor.decode(cursor) : null;
+        
+        List<SearchResult> rows = searchRepository.search(userId, tsQuery, workspaceId, after, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+        List<SearchResult> items = rows.subList(0, pageSize);
+        SearchResult last = items.get(pageSize - 1);
+        return new CursorPage<>(items, new SearchCursor(last.getRank(), last.getId()).encode());
+    }
+    
+    // Every word must match, as a prefix so results show up while the user is still typing.
+    // Only letters and digits reach to_tsquery, so user input cannot produce a syntax error
+    static String toTsQuery(String query) {
+        List<String> terms = Arrays.stream(TERM_SEPARATORS.split(query == null ? "" : query))
+                .filter(term -> !term.isEmpty())
+                .limit(MAX_TERMS)
+                .map(term -> term.toLowerCase(Locale.ROOT) + ":*")
+                .collect(Collectors.toList());
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("Search query must contain at least one word");
+        }
+        return String.join(" & ", terms);
+    }
+}
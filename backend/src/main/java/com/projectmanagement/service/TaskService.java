@@ -1,34 +1,159 @@
 package com.projectmanagement.service;
 
+import com.projectmanagement.activity.ActivityEntry;
+import com.projectmanagement.activity.ActivityLog;
+import com.projectmanagement.dto.BatchTaskResult;
+import com.projectmanagement.dto.BatchUpdateTaskRequest;
+import com.projectmanagement.dto.BoardEvent;
 import com.projectmanagement.dto.CreateTaskRequest;
+import com.projectmanagement.dto.CursorPage;
+import com.projectmanagement.dto.ResourceVersion;
+import com.projectmanagement.dto.TaskFilter;
+import com.projectmanagement.dto.TaskListItem;
+import com.projectmanagement.events.BoardEventPublisher;
 import com.projectmanagement.model.Task;
+import com.projectmanagement.outbox.DomainEventType;
+import com.projectmanagement.outbox.DomainEvents.TaskEvent;
+import com.projectmanagement.outbox.OutboxWriter;
+import com.projectmanagement.pagination.KeysetCursor;
+import com.projectmanagement.pagination.PageSizePolicy;
+import com.projectmanagement.repository.CommentRepository;
+import com.projectmanagement.repository.CommentRepository.TaskCommentSummary;
+import com.projectmanagement.repository.TaskListRepository;
+import com.projectmanagement.repository.TaskListRepository.Ordering;
 import com.projectmanagement.repository.TaskRepository;
+import com.projectmanagement.repository.TaskSpecifications;
+import com.projectmanagement.service.ProjectStatsService.TaskChange;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class TaskService {
     
     private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final TaskListRepository taskListRepository;
+    private final PageSizePolicy pageSizePolicy;
+    private final ProjectStatsService projectStatsService;
+    private final BoardEventPublisher boardEventPublisher;
+    private final OutboxWriter outboxWriter;
+    private final ActivityLog activityLog;
     
     public List<Task> findAll() {
         return taskRepository.findAll();
     }
     
     public Optional<Task> findById(String id) {
-        return taskRepository.findById(id);
+        return taskRepository.findById(id)
+                .map(task -> {
+                    withCommentSummaries(List.of(task));
+                    return task;
+                });
+    }
+    
+    public Optional<ResourceVersion> findVersionById(String id) {
+        return taskRepository.findVersionById(id);
     }
     
     @Transactional
     public Task create(CreateTaskRequest request, String currentUserId) {
+        Task saved = taskRepository.save(buildTask(request, currentUserId));
+        projectStatsService.recordCreated(List.of(saved));
+        boardEventPublisher.publishTaskEvents(BoardEvent.Type.TASK_CREATED, List.of(saved));
+        outboxWriter.append(DomainEventType.TASK_CREATED, saved.getId(), TaskEvent.of(saved));
+        activityLog.record(ActivityEntry.task(DomainEventType.TASK_CREATED, saved, TaskEvent.of(saved)));
+        return saved;
+    }
+    
+    @Transactional
+    public List<BatchTaskResult> createAll(List<CreateTaskRequest> requests, String currentUserId) {
+        // Ids are left to the UUID generator so every row is persisted without a pre-insert SELECT,
+        // letting Hibernate group the INSERTs into JDBC batches
+        List<Task> tasks = requests.stream()
+                .map(request -> buildTask(request, currentUserId))
+                .toList();
+        List<Task> saved = taskRepository.saveAll(tasks);
+        projectStatsService.recordCreated(saved);
+        boardEventPublisher.publishTaskEvents(BoardEvent.Type.TASK_CREATED, saved);
+        outboxWriter.appendAll(DomainEventType.TASK_CREATED, saved, Task::getId, TaskEvent::of);
+        activityLog.recordAll(saved.stream()
+                .map(task -> ActivityEntry.task(DomainEventType.TASK_CREATED, task, TaskEvent.of(task)))
+                .toList());
+        
+        List<BatchTaskResult> results = new ArrayList<>(saved.size());
+        for (int i = 0; i < saved.size(); i++) {
+            results.add(new BatchTaskResult(i, saved.get(i).getId(), BatchTaskResult.Status.CREATED));
+        }
+        return results;
+    }
+    
+    @Transactional
+    public Optional<Task> update(String id, CreateTaskRequest request, Long expectedVersion) {
+        return taskRepository.findById(id)
+                .map(task -> {
+                    checkVersion(task, expectedVersion);
+                    TaskChange previous = TaskChange.removed(task);
+                    TaskEvent before = TaskEvent.of(task);
+                    applyChanges(task, request);
+                    Task saved = taskRepository.save(task);
+                    projectStatsService.recordChanges(statsChanges(previous, saved));
+                    boardEventPublisher.publishTaskEvents(BoardEvent.Type.TASK_UPDATED, List.of(saved));
+                    outboxWriter.append(DomainEventType.TASK_UPDATED, saved.getId(), TaskEvent.of(saved));
+                    activityLog.record(ActivityEntry.task(DomainEventType.TASK_UPDATED, saved,
+                            activityLog.changes(before, TaskEvent.of(saved))));
+                    return saved;
+                });
+    }
+    
+    @Transactional
+    public List<BatchTaskResult> updateAll(List<BatchUpdateTaskRequest.Item> items) {
+        // One SELECT for all rows; the UPDATEs are flushed together as JDBC batches on commit
+        List<String> ids = items.stream().map(BatchUpdateTaskRequest.Item::getId).toList();
+        Map<String, Task> tasksById = taskRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        
+        List<BatchTaskResult> results = new ArrayList<>(items.size());
+        List<TaskChange> changes = new ArrayList<>();
+        List<Task> updated = new ArrayList<>(items.size());
+        List<ActivityEntry> activity = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            BatchUpdateTaskRequest.Item item = items.get(i);
+            Task task = tasksById.get(item.getId());
+            if (task == null) {
+                results.add(new BatchTaskResult(i, item.getId(), BatchTaskResult.Status.NOT_FOUND));
+                continue;
+            }
+            TaskChange previous = TaskChange.removed(task);
+            TaskEvent before = TaskEvent.of(task);
+            applyChanges(task, item.getTask());
+            changes.addAll(statsChanges(previous, task));
+            activity.add(ActivityEntry.task(DomainEventType.TASK_UPDATED, task,
+                    activityLog.changes(before, TaskEvent.of(task))));
+            updated.add(task);
+            results.add(new BatchTaskResult(i, task.getId(), BatchTaskResult.Status.UPDATED));
+        }
+        projectStatsService.recordChanges(changes);
+        boardEventPublisher.publishTaskEvents(BoardEvent.Type.TASK_UPDATED, updated);
+        outboxWriter.appendAll(DomainEventType.TASK_UPDATED, updated, Task::getId, TaskEvent::of);
+        activityLog.recordAll(activity);
+        return results;
+    }
+    
+    private Task buildTask(CreateTaskRequest request, String currentUserId) {
         Task task = new Task();
-        task.setId(UUID.randomUUID().toString());
         task.setProjectId(request.getProjectId());
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
@@ -46,38 +171,118 @@ public class TaskService {
             ? request.getDueDate() 
             : java.time.LocalDateTime.now().plusDays(7));
         
-        return taskRepository.save(task);
+        return task;
     }
     
-    @Transactional
-    public Optional<Task> update(String id, CreateTaskRequest request) {
-        return taskRepository.findById(id)
-                .map(task -> {
-                    task.setTitle(request.getTitle());
-                    task.setDescription(request.getDescription());
-                    task.setStatus(request.getStatus());
-                    task.setType(request.getType());
-                    task.setPriority(request.getPriority());
-                    if (request.getAssigneeId() != null && !request.getAssigneeId().isEmpty()) {
-                        task.setAssigneeId(request.getAssigneeId());
-                    }
-                    if (request.getDueDate() != null) {
-                        task.setDueDate(request.getDueDate());
-                    }
-                    return taskRepository.save(task);
-                });
+    private void applyChanges(Task task, CreateTaskRequest request) {
+        task.setTitle(request.getTitle());
+        task.setDescription(request.getDescription());
+        task.setStatus(request.getStatus());
+        task.setType(request.getType());
+        task.setPriority(request.getPriority());
+        if (request.getAssigneeId() != null && !request.getAssigneeId().isEmpty()) {
+            task.setAssigneeId(request.getAssigneeId());
+        }
+        if (request.getDueDate() != null) {
+            task.setDueDate(request.getDueDate());
+        }
+    }
+    
+    private static List<TaskChange> statsChanges(TaskChange previous, Task task) {
+        TaskChange current = TaskChange.added(task);
+        if (previous.status() == current.status()
+                && previous.priority() == current.priority()
+                && previous.type() == current.type()) {
+            return List.of();
+        }
+        return List.of(previous, current);
     }
     
     @Transactional
     public void delete(String id) {
-        taskRepository.deleteById(id);
+        taskRepository.findById(id).ifPresent(task -> {
+            taskRepository.delete(task);
+            projectStatsService.recordDeleted(task);
+            boardEventPublisher.publishTaskEvents(BoardEvent.Type.TASK_DELETED, List.of(task));
+            outboxWriter.append(DomainEventType.TASK_DELETED, task.getId(), TaskEvent.of(task));
+            activityLog.record(ActivityEntry.task(DomainEventType.TASK_DELETED, task, TaskEvent.of(task)));
+        });
+    }
+    
+    // The streams hold an open cursor and must be consumed inside a transaction (see JsonArrayStreamer)
+    public Stream<TaskListItem> streamByProjectId(String projectId) {
+        return taskRepository.streamByProjectId(projectId);
+    }
+    
+    public Stream<TaskListItem> streamByAssigneeId(String assigneeId) {
+        return taskRepository.streamByAssigneeId(assigneeId);
+    }
+    
+    public CursorPage<Task> findByProjectId(String projectId, String cursor, Integer limit) {
+        int pageSize = pageSizePolicy.resolve(limit);
+        Limit fetch = Limit.of(pageSize + 1);
+        List<Task> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = taskRepository.findByProjectIdOrderByCreatedAtAscIdAsc(projectId, fetch);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = taskRepository.findByProjectIdAfter(projectId, after.position(), after.id(), fetch);
+        }
+        CursorPage<Task> page = CursorPage.of(rows, pageSize, task -> new KeysetCursor(task.getCreatedAt(), task.getId()));
+        withCommentSummaries(page.getItems());
+        return page;
+    }
+    
+    public CursorPage<TaskListItem> findAssignedTasks(String assigneeId, TaskFilter filter, String cursor, Integer limit) {
+        int pageSize = pageSizePolicy.resolve(limit);
+        Ordering ordering = Ordering.parse(filter.getSort());
+        Specification<Task> specification = TaskSpecifications.assignedTo(assigneeId)
+                .and(TaskSpecifications.matching(filter));
+        if (cursor != null && !cursor.isEmpty()) {
+            specification = specification.and(TaskSpecifications.after(ordering, KeysetCursor.decode(cursor)));
+        }
+        List<TaskListItem> rows = taskListRepository.find(specification, ordering, pageSize + 1);
+        CursorPage<TaskListItem> page = CursorPage.of(rows, pageSize,
+                item -> new KeysetCursor(ordering.positionOf(item), item.getId()));
+        
+        Map<String, TaskCommentSummary> summaries = commentSummaries(page.getItems().stream().map(TaskListItem::getId).toList());
+        for (TaskListItem item : page.getItems()) {
+            TaskCommentSummary summary = summaries.get(item.getId());
+            item.setCommentCount(summary != null ? summary.getCommentCount() : 0L);
+            if (summary != null) {
+                item.setLastCommentAt(summary.getLastCommentAt());
+                item.setLastCommentPreview(summary.getLastCommentPreview());
+            }
+        }
+        return page;
+    }
+    
+    // One grouped query for the whole page instead of initializing each task's comments collection
+    private void withCommentSummaries(List<Task> tasks) {
+        Map<String, TaskCommentSummary> summaries = commentSummaries(tasks.stream().map(Task::getId).toList());
+        for (Task task : tasks) {
+            TaskCommentSummary summary = summaries.get(task.getId());
+            task.setCommentCount(summary != null ? summary.getCommentCount() : 0L);
+            if (summary != null) {
+                task.setLastCommentAt(summary.getLastCommentAt());
+                task.setLastCommentPreview(summary.getLastCommentPreview());
+            }
+        }
     }
     
-    public List<Task> findByProjectId(String projectId) {
-        return taskRepository.findByProjectId(projectId);
+    private Map<String, TaskCommentSummary> commentSummaries(List<String> taskIds) {
+        if (taskIds.isEmpty()) {
+            return Map.of();
+        }
+        return commentRepository.summarizeByTaskIds(taskIds).stream()
+                .collect(Collectors.toMap(TaskCommentSummary::getTaskId, Function.identity()));
     }
     
-    public List<Task> findByAssigneeId(String assigneeId) {
-        return taskRepository.findByAssigneeId(assigneeId);
+    // Rejects the update when the caller's If-Match was evaluated against an older version;
+    // updates racing after this check are caught by the @Version column on flush
+    private static void checkVersion(Task entity, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(entity.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Task.class, entity.getId());
+        }
     }
 }
@@ -1,8 +1,12 @@
 package com.projectmanagement.service;
 
+import com.projectmanagement.dto.CursorPage;
 import com.projectmanagement.model.User;
+import com.projectmanagement.pagination.KeysetCursor;
+import com.projectmanagement.pagination.PageSizePolicy;
 import com.projectmanagement.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,9 +19,19 @@ import java.util.UUID;
 public class UserService {
     
     private final UserRepository userRepository;
+    private final PageSizePolicy pageSizePolicy;
     
-    public List<User> findAll() {
-        return userRepository.findAll();
+    public CursorPage<User> findAll(String cursor, Integer limit) {
+        int pageSize = pageSizePolicy.resolve(limit);
+        Limit fetch = Limit.of(pageSize + 1);
+        List<User> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = userRepository.findAllByOrderByCreatedAtAscIdAsc(fetch);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = userRepository.findAllAfter(after.position(), after.id(), fetch);
+        }
+        return CursorPage.of(rows, pageSize, user -> new KeysetCursor(user.getCreatedAt(), user.getId()));
     }
     
     public Optional<User> findById(String id) {
@@ -1,15 +1,24 @@
 package com.projectmanagement.service;
 
+import com.projectmanagement.activity.ActivityEntry;
+import com.projectmanagement.activity.ActivityLog;
 import com.projectmanagement.dto.CreateWorkspaceRequest;
 import com.projectmanagement.dto.InviteMemberRequest;
+import com.projectmanagement.dto.ResourceVersion;
+import com.projectmanagement.dto.WorkspaceSummaryResponse;
 import com.projectmanagement.model.User;
 import com.projectmanagement.model.Workspace;
 import com.projectmanagement.model.WorkspaceMember;
 import com.projectmanagement.model.enums.WorkspaceRole;
+import com.projectmanagement.outbox.DomainEventType;
+import com.projectmanagement.outbox.DomainEvents.MemberEvent;
+import com.projectmanagement.outbox.DomainEvents.WorkspaceEvent;
+import com.projectmanagement.outbox.OutboxWriter;
 import com.projectmanagement.repository.UserRepository;
 import com.projectmanagement.repository.WorkspaceMemberRepository;
 import com.projectmanagement.repository.WorkspaceRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,14 +26,20 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 @Service
 @RequiredArgsConstructor
 public class WorkspaceService {
     
+    private static final Pattern NON_SLUG_CHARS = Pattern.compile("[^a-z0-9]+");
+    private static final Pattern EDGE_DASHES = Pattern.compile("^-|-$");
+    
     private final WorkspaceRepository workspaceRepository;
     private final WorkspaceMemberRepository workspaceMemberRepository;
     private final UserRepository userRepository;
+    private final OutboxWriter outboxWriter;
+    private final ActivityLog activityLog;
     
     public List<Workspace> findAll() {
         return workspaceRepository.findAll();
@@ -34,6 +49,14 @@ public class WorkspaceService {
         return workspaceRepository.findById(id);
     }
     
+    public boolean isVisibleTo(String id, String userId) {
+        return workspaceRepository.isVisibleTo(id, userId);
+    }
+    
+    public Optional<ResourceVersion> findVersionById(String id) {
+        return workspaceRepository.findVersionById(id);
+    }
+    
     @Transactional
     public Workspace create(CreateWorkspaceRequest request, String ownerId) {
         Workspace workspace = new Workspace();
@@ -45,10 +68,7 @@ public class WorkspaceService {
         workspace.setSettings(new HashMap<>());
         
         // Generate slug
-        String slug = request.getName()
-                .toLowerCase()
-                .replaceAll("[^a-z0-9]+", "-")
-                .replaceAll("^-|-$", "");
+        String slug = slugify(request.getName());
         
         String baseSlug = slug;
         int counter = 1;
@@ -67,43 +87,48 @@ public class WorkspaceService {
         ownerMember.setRole(WorkspaceRole.ADMIN);
         ownerMember.setMessage("");
         workspaceMemberRepository.save(ownerMember);
+        outboxWriter.append(DomainEventType.WORKSPACE_CREATED, savedWorkspace.getId(), WorkspaceEvent.of(savedWorkspace));
+        activityLog.record(ActivityEntry.workspace(DomainEventType.WORKSPACE_CREATED, savedWorkspace.getId(),
+                WorkspaceEvent.of(savedWorkspace)));
         
         return savedWorkspace;
     }
     
     @Transactional
-    public Optional<Workspace> update(String id, CreateWorkspaceRequest request) {
+    public Optional<Workspace> update(String id, CreateWorkspaceRequest request, Long expectedVersion) {
         return workspaceRepository.findById(id)
                 .map(workspace -> {
+                    checkVersion(workspace, expectedVersion);
+                    WorkspaceEvent before = WorkspaceEvent.of(workspace);
                     workspace.setName(request.getName());
                     workspace.setDescription(request.getDescription());
                     if (request.getImageUrl() != null) {
                         workspace.setImageUrl(request.getImageUrl());
                     }
-                    return workspaceRepository.save(workspace);
+                    Workspace saved = workspaceRepository.save(workspace);
+                    outboxWriter.append(DomainEventType.WORKSPACE_UPDATED, saved.getId(), WorkspaceEvent.of(saved));
+                    activityLog.record(ActivityEntry.workspace(DomainEventType.WORKSPACE_UPDATED, saved.getId(),
+                            activityLog.changes(before, WorkspaceEvent.of(saved))));
+                    return saved;
                 });
     }
     
     @Transactional
     public void delete(String id) {
-        workspaceRepository.deleteById(id);
+        workspaceRepository.findById(id).ifPresent(workspace -> {
+            workspaceRepository.delete(workspace);
+            outboxWriter.append(DomainEventType.WORKSPACE_DELETED, id, WorkspaceEvent.of(workspace));
+            activityLog.record(ActivityEntry.workspace(DomainEventType.WORKSPACE_DELETED, id, WorkspaceEvent.of(workspace)));
+        });
     }
     
     public List<Workspace> findByUserId(String userId) {
         // Get workspaces where user is owner or member
-        List<Workspace> owned = workspaceRepository.findByOwnerId(userId);
-        List<WorkspaceMember> memberships = workspaceMemberRepository.findByUserId(userId);
-        
-        List<Workspace> memberWorkspaces = memberships.stream()
-                .map(m -> workspaceRepository.findById(m.getWorkspaceId()))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .toList();
-        
-        // Combine and remove duplicates
-        return java.util.stream.Stream.concat(owned.stream(), memberWorkspaces.stream())
-                .distinct()
-                .toList();
+        return workspaceMemberRepository.findWorkspacesByOwnerOrMember(userId);
+    }
+    
+    public List<WorkspaceSummaryResponse> findSummariesByUserId(String userId) {
+        return workspaceRepository.findSummariesByUserId(userId);
     }
     
     @Transactional
@@ -138,6 +163,22 @@ public class WorkspaceService {
         member.setRole(request.getRole() != null ? request.getRole() : WorkspaceRole.MEMBER);
         member.setMessage("");
         
-        return workspaceMemberRepository.save(member);
+        WorkspaceMember saved = workspaceMemberRepository.save(member);
+        MemberEvent added = new MemberEvent(user.getId(), saved.getRole().name());
+        outboxWriter.append(DomainEventType.WORKSPACE_MEMBER_ADDED, workspaceId, added);
+        activityLog.record(ActivityEntry.workspace(DomainEventType.WORKSPACE_MEMBER_ADDED, workspaceId, added));
+        return saved;
+    }
+    
+    private static void checkVersion(Workspace entity, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(entity.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Workspace.class, entity.getId());
+        }
+    }
+    
+    // Patterns are compiled once instead of on every String.replaceAll call
+    public static String slugify(String name) {
+        String slug = NON_SLUG_CHARS.matcher(name.toLowerCase()).replaceAll("-");
+        return EDGE_DASHES.matcher(slug).replaceAll("");
     }
 }
@@ -0,0 +1,73 @@
+package com.projectmanagement.streaming;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+// RFC 4180: a header line, CRLF line endings, and fields quoted only when they contain a separator, quote or newline.
+// Text that a spreadsheet would read as a formula (a leading =, +, -, @, tab or CR) is prefixed with ' and quoted,
+// so user-entered titles and comments open as plain text; numbers and dates are written as they are
+class CsvRowWriter implements ExportRowWriter {
+    
+    private final Writer writer;
+    
+    CsvRowWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+    
+    @Override
+    public void startSection(String section, String[] columns) throws IOException {
+        writeRow(columns);
+    }
+    
+    @Override
+    public void writeRow(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] instanceof String text && startsFormula(text)) {
+                writeQuoted("'" + text);
+            } else if (values[i] != null) {
+                writeField(values[i].toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+    
+    private void writeField(String value) throws IOException {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writeQuoted(value);
+    }
+    
+    private void writeQuoted(String value) throws IOException {
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+    
+    private static boolean startsFormula(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        char first = value.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+    
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+    
+    // Flushes without closing the response stream, which belongs to the container
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+}
@@ -0,0 +1,49 @@
+package com.projectmanagement.streaming;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+
+public enum ExportFormat {
+    // One JSON object per line, tagged with its section, so any number of sections fit in one file
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson", true),
+    // A single table, so a CSV export holds exactly one section
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv", false);
+    
+    private final MediaType mediaType;
+    private final String extension;
+    private final boolean multipleSections;
+    
+    ExportFormat(MediaType mediaType, String extension, boolean multipleSections) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+        this.multipleSections = multipleSections;
+    }
+    
+    public MediaType mediaType() {
+        return mediaType;
+    }
+    
+    public String extension() {
+        return extension;
+    }
+    
+    public boolean supportsMultipleSections() {
+        return multipleSections;
+    }
+    
+    ExportRowWriter writer(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        return this == NDJSON ? new NdjsonRowWriter(out, objectMapper) : new CsvRowWriter(out);
+    }
+    
+    public static ExportFormat parse(String format) {
+        try {
+            return valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown export format: " + format, e);
+        }
+    }
+}
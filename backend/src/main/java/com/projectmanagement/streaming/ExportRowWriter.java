@@ -0,0 +1,14 @@
+package com.projectmanagement.streaming;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// Serializes export rows as they are read; implementations buffer at most one row plus the stream's own buffer
+interface ExportRowWriter extends Closeable {
+    
+    void startSection(String section, String[] columns) throws IOException;
+    
+    void writeRow(Object[] values) throws IOException;
+    
+    void flush() throws IOException;
+}
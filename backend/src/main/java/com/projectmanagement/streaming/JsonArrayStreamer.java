@@ -0,0 +1,56 @@
+package com.projectmanagement.streaming;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@Component
+@RequiredArgsConstructor
+public class JsonArrayStreamer {
+    
+    // Rows per JDBC round trip for streaming queries; the output is flushed at the same interval
+    public static final String FETCH_SIZE = "500";
+    private static final int FLUSH_INTERVAL = Integer.parseInt(FETCH_SIZE);
+    
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+    
+    // Writes the rows as one JSON array while the cursor is read, so neither the result list
+    // nor the serialized body is ever held in memory as a whole. Queries must select DTO projections:
+    // managed entities would pile up in the persistence context and pull their associations into the output
+    public <T> StreamingResponseBody stream(Supplier<Stream<T>> query) {
+        return out -> {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            // PostgreSQL only honours the fetch size inside a transaction
+            transaction.setReadOnly(true);
+            transaction.executeWithoutResult(status -> {
+                try (Stream<T> rows = query.get();
+                     JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                    generator.writeStartArray();
+                    Iterator<T> iterator = rows.iterator();
+                    int written = 0;
+                    while (iterator.hasNext()) {
+                        generator.writeObject(iterator.next());
+                        if (++written % FLUSH_INTERVAL == 0) {
+                            generator.flush();
+                        }
+                    }
+                    generator.writeEndArray();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        };
+    }
+}
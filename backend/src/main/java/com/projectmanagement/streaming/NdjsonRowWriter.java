@@ -0,0 +1,48 @@
+package com.projectmanagement.streaming;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+class NdjsonRowWriter implements ExportRowWriter {
+    
+    private final JsonGenerator generator;
+    private String section;
+    private String[] columns;
+    
+    NdjsonRowWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Newline-separated instead of the default space between root values
+        this.generator.setRootValueSeparator(null);
+    }
+    
+    @Override
+    public void startSection(String section, String[] columns) {
+        this.section = section;
+        this.columns = columns;
+    }
+    
+    @Override
+    public void writeRow(Object[] values) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", section);
+        for (int i = 0; i < columns.length; i++) {
+            generator.writeObjectField(columns[i], values[i]);
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+    
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,87 @@
+package com.projectmanagement.streaming;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.repository.WorkspaceExportRepository;
+import com.projectmanagement.repository.WorkspaceExportRepository.Section;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.ResultSetMetaData;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class WorkspaceExporter {
+    
+    private static final int FLUSH_INTERVAL = Integer.parseInt(JsonArrayStreamer.FETCH_SIZE);
+    
+    private final WorkspaceExportRepository exportRepository;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+    
+    // Resolves the requested sections up front, so a bad request fails before the response is committed
+    public List<Section> sections(List<String> requested, ExportFormat format) {
+        List<Section> sections = requested == null || requested.isEmpty()
+                ? Arrays.asList(Section.values())
+                : requested.stream().map(Section::parse).distinct().toList();
+        if (sections.size() > 1 && !format.supportsMultipleSections()) {
+            throw new IllegalArgumentException(format + " exports hold exactly one section");
+        }
+        return sections;
+    }
+    
+    // Every section is read through a server-side cursor and written row by row, so memory use does not depend on
+    // the size of the workspace. All sections are read in one repeatable-read transaction and so come from the
+    // same snapshot, even while the workspace keeps changing
+    public StreamingResponseBody export(String workspaceId, ExportFormat format, List<Section> sections) {
+        return out -> {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            transaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+            transaction.executeWithoutResult(status -> {
+                try (ExportRowWriter writer = format.writer(out, objectMapper)) {
+                    for (Section section : sections) {
+                        exportRepository.read(section, workspaceId, rs -> {
+                            try {
+                                ResultSetMetaData metaData = rs.getMetaData();
+                                String[] columns = new String[metaData.getColumnCount()];
+                                for (int i = 0; i < columns.length; i++) {
+                                    columns[i] = metaData.getColumnLabel(i + 1);
+                                }
+                                writer.startSection(section.label(), columns);
+                                Object[] values = new Object[columns.length];
+                                int written = 0;
+                                while (rs.next()) {
+                                    for (int i = 0; i < values.length; i++) {
+                                        Object value = rs.getObject(i + 1);
+                                        // ISO-8601 like the JSON API, instead of java.sql.Timestamp's format
+                                        values[i] = value instanceof Timestamp timestamp
+                                                ? timestamp.toLocalDateTime().toString()
+                                                : value;
+                                    }
+                                    writer.writeRow(values);
+                                    if (++written % FLUSH_INTERVAL == 0) {
+                                        writer.flush();
+                                    }
+                                }
+                                return null;
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        });
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        };
+    }
+}
@@ -0,0 +1,4 @@
+-- "My tasks" with open=true, the dashboard's overdue and due-soon lists. idx_tasks_assignee_status_due (V4) only
+-- returns rows in due-date order for a single status; for status <> 'DONE' the planner had to read every open and
+-- finished task of the assignee and sort them. Finished tasks are left out, as in idx_tasks_open_due (V6).
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_assignee_open_due ON tasks (assignee_id, due_date, id) WHERE status <> 'DONE';
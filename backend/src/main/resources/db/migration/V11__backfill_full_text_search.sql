@@ -0,0 +1,37 @@
+-- Search vectors for the rows that existed before V3's triggers, then the GIN indexes behind GET /api/search.
+-- Runs outside a transaction (spring.flyway.mixed) so every batch of the backfill commits on its own: each one
+-- locks only its own rows, briefly, and writers never wait on the whole table. Rows written meanwhile already
+-- get their vector from the trigger. As in V2, a concurrent build that fails leaves an INVALID index behind,
+-- which has to be dropped by hand before re-running.
+DO $$
+DECLARE
+    target RECORD;
+    last_id VARCHAR;
+    batch_end VARCHAR;
+BEGIN
+    FOR target IN
+        SELECT * FROM (VALUES
+            ('tasks', 'weighted_search_vector(title, description)'),
+            ('projects', 'weighted_search_vector(name, description)'),
+            ('comments', 'to_tsvector(''simple'', coalesce(content, ''''))')
+        ) AS targets (table_name, vector)
+    LOOP
+        last_id := '';
+        LOOP
+            EXECUTE format('SELECT max(id) FROM (SELECT id FROM %I WHERE id > $1 ORDER BY id LIMIT 5000) batch',
+                           target.table_name)
+                INTO batch_end USING last_id;
+            EXIT WHEN batch_end IS NULL;
+            EXECUTE format('UPDATE %I SET search_vector = %s WHERE id > $1 AND id <= $2 AND search_vector IS NULL',
+                           target.table_name, target.vector)
+                USING last_id, batch_end;
+            COMMIT;
+            last_id := batch_end;
+        END LOOP;
+    END LOOP;
+END
+$$;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_search ON tasks USING GIN (search_vector);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_projects_search ON projects USING GIN (search_vector);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_comments_search ON comments USING GIN (search_vector);
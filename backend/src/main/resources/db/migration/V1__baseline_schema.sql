@@ -0,0 +1,117 @@
+-- Tables as Hibernate's ddl-auto: update created them, so existing databases can be adopted at this
+-- version (spring.flyway.baseline-on-migrate) and fresh ones end up identical
+
+CREATE TABLE users (
+    id VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    image TEXT DEFAULT '',
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE workspaces (
+    id VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    slug VARCHAR(255) NOT NULL UNIQUE,
+    description TEXT,
+    settings JSONB DEFAULT '{}',
+    owner_id VARCHAR(255) NOT NULL,
+    image_url TEXT DEFAULT '',
+    version BIGINT DEFAULT 0,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE workspace_members (
+    id VARCHAR(255) NOT NULL,
+    user_id VARCHAR(255) NOT NULL,
+    workspace_id VARCHAR(255) NOT NULL,
+    message TEXT DEFAULT '',
+    role VARCHAR(255) NOT NULL CHECK (role IN ('ADMIN', 'MEMBER')),
+    PRIMARY KEY (id),
+    UNIQUE (user_id, workspace_id)
+);
+
+CREATE TABLE projects (
+    id VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    description TEXT,
+    priority VARCHAR(255) NOT NULL CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH')),
+    status VARCHAR(255) NOT NULL CHECK (status IN ('ACTIVE', 'PLANNING', 'COMPLETED', 'ON_HOLD', 'CANCELLED')),
+    start_date TIMESTAMP(6),
+    end_date TIMESTAMP(6),
+    team_lead VARCHAR(255) NOT NULL,
+    workspace_id VARCHAR(255) NOT NULL,
+    progress INTEGER NOT NULL,
+    version BIGINT DEFAULT 0,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE project_members (
+    id VARCHAR(255) NOT NULL,
+    user_id VARCHAR(255) NOT NULL,
+    project_id VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE (user_id, project_id)
+);
+
+CREATE TABLE tasks (
+    id VARCHAR(255) NOT NULL,
+    project_id VARCHAR(255) NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    status VARCHAR(255) NOT NULL CHECK (status IN ('TODO', 'IN_PROGRESS', 'DONE')),
+    type VARCHAR(255) NOT NULL CHECK (type IN ('TASK', 'BUG', 'FEATURE', 'IMPROVEMENT', 'OTHER')),
+    priority VARCHAR(255) NOT NULL CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH')),
+    assignee_id VARCHAR(255) NOT NULL,
+    due_date TIMESTAMP(6) NOT NULL,
+    version BIGINT DEFAULT 0,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE comments (
+    id VARCHAR(255) NOT NULL,
+    content TEXT NOT NULL,
+    user_id VARCHAR(255) NOT NULL,
+    task_id VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE project_task_stats (
+    project_id VARCHAR(255) NOT NULL,
+    total_count BIGINT NOT NULL,
+    todo_count BIGINT NOT NULL,
+    in_progress_count BIGINT NOT NULL,
+    done_count BIGINT NOT NULL,
+    low_priority_count BIGINT NOT NULL,
+    medium_priority_count BIGINT NOT NULL,
+    high_priority_count BIGINT NOT NULL,
+    task_type_count BIGINT NOT NULL,
+    bug_type_count BIGINT NOT NULL,
+    feature_type_count BIGINT NOT NULL,
+    improvement_type_count BIGINT NOT NULL,
+    other_type_count BIGINT NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (project_id)
+);
+
+-- Constraint names are the ones Hibernate generated
+ALTER TABLE workspaces ADD CONSTRAINT FK58ks96jjlsbhsh21cen7hr59h FOREIGN KEY (owner_id) REFERENCES users;
+ALTER TABLE workspace_members ADD CONSTRAINT FK6vtnpc3eexk504u61uepn40p1 FOREIGN KEY (user_id) REFERENCES users;
+ALTER TABLE workspace_members ADD CONSTRAINT FKw9hq87n3rvq2c4j47qo78i5r FOREIGN KEY (workspace_id) REFERENCES workspaces;
+ALTER TABLE projects ADD CONSTRAINT FKshecelj3iphef9uqvo4nf7gq2 FOREIGN KEY (team_lead) REFERENCES users;
+ALTER TABLE projects ADD CONSTRAINT FKpc7qv7bnsq7dm17g0tb0a60of FOREIGN KEY (workspace_id) REFERENCES workspaces;
+ALTER TABLE project_members ADD CONSTRAINT FKgul2el0qjk5lsvig3wgajwm77 FOREIGN KEY (user_id) REFERENCES users;
+ALTER TABLE project_members ADD CONSTRAINT FKdki1sp2homqsdcvqm9yrix31g FOREIGN KEY (project_id) REFERENCES projects;
+ALTER TABLE tasks ADD CONSTRAINT FKekr1dgiqktpyoip3qmp6lxsit FOREIGN KEY (assignee_id) REFERENCES users;
+ALTER TABLE tasks ADD CONSTRAINT FKsfhn82y57i3k9uxww1s007acc FOREIGN KEY (project_id) REFERENCES projects;
+ALTER TABLE comments ADD CONSTRAINT FK8omq0tc18jd43bu5tjh6jvraq FOREIGN KEY (user_id) REFERENCES users;
+ALTER TABLE comments ADD CONSTRAINT FKi7pp0331nbiwd2844kg78kfwb FOREIGN KEY (task_id) REFERENCES tasks;
@@ -0,0 +1,26 @@
+-- Indexes behind the repository queries. Built CONCURRENTLY so adopting a large existing database does not
+-- block writes (Flyway runs this migration outside a transaction); IF NOT EXISTS skips the ones that
+-- ddl-auto: update already created. A concurrent build that fails leaves an INVALID index behind, which has
+-- to be dropped by hand before re-running.
+
+-- Board pages (project_id, created_at, id), "my tasks" (assignee_id, due_date, id) and overdue counts
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_project_created ON tasks (project_id, created_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_assignee_due ON tasks (assignee_id, due_date, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_project_due ON tasks (project_id, due_date);
+
+-- Comment threads; user_id serves deletes of a user's comments
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_comments_task_created ON comments (task_id, created_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_comments_user ON comments (user_id);
+
+-- Project listings: keyset over all projects, per workspace, and by team lead
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_projects_created ON projects (created_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_projects_workspace_created ON projects (workspace_id, created_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_projects_team_lead ON projects (team_lead);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_created ON users (created_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_workspaces_owner ON workspaces (owner_id);
+
+-- The unique (user_id, ...) constraints already index lookups by member; these serve loading the
+-- members of one workspace or project
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_workspace_members_workspace ON workspace_members (workspace_id, user_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_project_members_project ON project_members (project_id, user_id);
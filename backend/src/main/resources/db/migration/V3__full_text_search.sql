@@ -0,0 +1,44 @@
+-- Full-text columns for GET /api/search, kept current by triggers so the search index needs no application code;
+-- they are not mapped on the entities and never leave the database. Plain nullable columns rather than GENERATED
+-- ... STORED ones: adding a stored generated column rewrites the whole table under an ACCESS EXCLUSIVE lock, while
+-- this only takes that lock for a catalog update. Existing rows are filled in batches and indexed CONCURRENTLY by
+-- V11, like V2 does for large adopted databases.
+
+CREATE OR REPLACE FUNCTION weighted_search_vector(title TEXT, body TEXT) RETURNS tsvector
+    LANGUAGE sql IMMUTABLE AS $$
+    SELECT setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+           setweight(to_tsvector('simple', coalesce(body, '')), 'B')
+$$;
+
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS search_vector tsvector;
+CREATE OR REPLACE FUNCTION tasks_search_vector_trigger() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    NEW.search_vector := weighted_search_vector(NEW.title, NEW.description);
+    RETURN NEW;
+END
+$$;
+DROP TRIGGER IF EXISTS tasks_search_vector ON tasks;
+CREATE TRIGGER tasks_search_vector BEFORE INSERT OR UPDATE OF title, description ON tasks
+    FOR EACH ROW EXECUTE FUNCTION tasks_search_vector_trigger();
+
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS search_vector tsvector;
+CREATE OR REPLACE FUNCTION projects_search_vector_trigger() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    NEW.search_vector := weighted_search_vector(NEW.name, NEW.description);
+    RETURN NEW;
+END
+$$;
+DROP TRIGGER IF EXISTS projects_search_vector ON projects;
+CREATE TRIGGER projects_search_vector BEFORE INSERT OR UPDATE OF name, description ON projects
+    FOR EACH ROW EXECUTE FUNCTION projects_search_vector_trigger();
+
+ALTER TABLE comments ADD COLUMN IF NOT EXISTS search_vector tsvector;
+CREATE OR REPLACE FUNCTION comments_search_vector_trigger() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    NEW.search_vector := to_tsvector('simple', coalesce(NEW.content, ''));
+    RETURN NEW;
+END
+$$;
+DROP TRIGGER IF EXISTS comments_search_vector ON comments;
+CREATE TRIGGER comments_search_vector BEFORE INSERT OR UPDATE OF content ON comments
+    FOR EACH ROW EXECUTE FUNCTION comments_search_vector_trigger();
@@ -0,0 +1,4 @@
+-- "My tasks" filters (see TaskSpecifications). A status filter reads only the matching slice of the assignee's
+-- tasks in due-date order instead of all of their history; sort=createdAt gets its own keyset index.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_assignee_status_due ON tasks (assignee_id, status, due_date, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_assignee_created ON tasks (assignee_id, created_at, id);
@@ -0,0 +1,7 @@
+-- Leader election for background jobs that must run on one node at a time (see SchedulerLeaseRepository)
+CREATE TABLE IF NOT EXISTS scheduler_leases (
+    name VARCHAR(100) PRIMARY KEY,
+    owner VARCHAR(100) NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL,
+    watermark TIMESTAMP(6)
+);
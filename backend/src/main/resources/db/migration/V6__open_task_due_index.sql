@@ -0,0 +1,3 @@
+-- Due-date reminders load open tasks in (due_date, id) order; finished tasks are most of the table and are left
+-- out of the index. Kept apart from V5 because Flyway cannot mix CONCURRENTLY with transactional statements.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_open_due ON tasks (due_date, id) WHERE status <> 'DONE';
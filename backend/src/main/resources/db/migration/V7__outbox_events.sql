@@ -0,0 +1,20 @@
+-- Domain events written in the same transaction as the change they describe and delivered afterwards by
+-- OutboxDispatcher. Rows are deleted once delivered, so the table only holds the backlog.
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id VARCHAR(255) NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL DEFAULT now(),
+    -- Not before this time; pushed back by the retry backoff
+    available_at TIMESTAMP(6) NOT NULL DEFAULT now(),
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT,
+    -- Set when the event ran out of attempts; such rows no longer hold back their aggregate
+    dead_at TIMESTAMP(6)
+);
+
+-- Batches in id order, and the per-aggregate "earlier row still waiting" check
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending ON outbox_events (id) WHERE dead_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_outbox_events_aggregate ON outbox_events (aggregate_type, aggregate_id, id) WHERE dead_at IS NULL;
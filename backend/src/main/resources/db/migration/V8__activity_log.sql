@@ -0,0 +1,34 @@
+-- Append-only history of changes, range-partitioned by month on occurred_at. Months past the retention are
+-- detached and dropped whole by ActivityLogPartitions, so expiring history never deletes rows or leaves
+-- dead tuples for vacuum.
+CREATE TABLE IF NOT EXISTS activity_log (
+    id BIGSERIAL,
+    occurred_at TIMESTAMP(6) NOT NULL DEFAULT now(),
+    workspace_id VARCHAR(255) NOT NULL,
+    project_id VARCHAR(255),
+    actor_id VARCHAR(255),
+    action VARCHAR(50) NOT NULL,
+    subject_type VARCHAR(50) NOT NULL,
+    subject_id VARCHAR(255) NOT NULL,
+    details JSONB NOT NULL DEFAULT '{}',
+    -- The partition key has to be part of the primary key
+    PRIMARY KEY (occurred_at, id)
+) PARTITION BY RANGE (occurred_at);
+
+-- Feeds read newest first; created on every partition
+CREATE INDEX IF NOT EXISTS idx_activity_log_workspace ON activity_log (workspace_id, occurred_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_activity_log_project ON activity_log (project_id, occurred_at DESC, id DESC)
+    WHERE project_id IS NOT NULL;
+
+-- Partitions for the current and the next three months; ActivityLogPartitions keeps creating them ahead
+DO $$
+DECLARE
+    month_start DATE;
+BEGIN
+    FOR i IN 0..3 LOOP
+        month_start := (date_trunc('month', now()) + make_interval(months => i))::date;
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF activity_log FOR VALUES FROM (%L) TO (%L)',
+            'activity_log_p' || to_char(month_start, 'YYYYMM'), month_start, (month_start + interval '1 month')::date);
+    END LOOP;
+END
+$$;
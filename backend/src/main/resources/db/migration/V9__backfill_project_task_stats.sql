@@ -0,0 +1,24 @@
+-- Stats rows for projects created before project_task_stats was maintained. Without a row there is nothing for
+-- ProjectStatsService to lock, and concurrent task writes to such a project would each try to insert one.
+INSERT INTO project_task_stats (project_id, total_count, todo_count, in_progress_count, done_count,
+                                low_priority_count, medium_priority_count, high_priority_count,
+                                task_type_count, bug_type_count, feature_type_count, improvement_type_count,
+                                other_type_count, updated_at)
+SELECT p.id,
+       count(t.id),
+       count(t.id) FILTER (WHERE t.status = 'TODO'),
+       count(t.id) FILTER (WHERE t.status = 'IN_PROGRESS'),
+       count(t.id) FILTER (WHERE t.status = 'DONE'),
+       count(t.id) FILTER (WHERE t.priority = 'LOW'),
+       count(t.id) FILTER (WHERE t.priority = 'MEDIUM'),
+       count(t.id) FILTER (WHERE t.priority = 'HIGH'),
+       count(t.id) FILTER (WHERE t.type = 'TASK'),
+       count(t.id) FILTER (WHERE t.type = 'BUG'),
+       count(t.id) FILTER (WHERE t.type = 'FEATURE'),
+       count(t.id) FILTER (WHERE t.type = 'IMPROVEMENT'),
+       count(t.id) FILTER (WHERE t.type = 'OTHER'),
+       LOCALTIMESTAMP
+FROM projects p
+LEFT JOIN tasks t ON t.project_id = p.id
+GROUP BY p.id
+ON CONFLICT (project_id) DO NOTHING;
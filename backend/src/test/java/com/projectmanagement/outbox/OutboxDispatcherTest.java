@@ -0,0 +1,181 @@
+package com.projectmanagement.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.events.PostgresNotificationBus;
+import com.projectmanagement.repository.OutboxRepository;
+import com.projectmanagement.repository.OutboxRepository.StoredEvent;
+import com.projectmanagement.repository.SchedulerLeaseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Runs the dispatcher thread against mocked repositories; every test hands it one batch and then an empty outbox
+class OutboxDispatcherTest {
+    
+    private static final int BATCH_SIZE = 3;
+    private static final int MAX_ATTEMPTS = 4;
+    private static final long RETRY_DELAY_MS = 1000;
+    
+    private OutboxRepository outboxRepository;
+    private SchedulerLeaseRepository leaseRepository;
+    private RecordingConsumer consumer;
+    private OutboxDispatcher dispatcher;
+    
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(OutboxRepository.class);
+        leaseRepository = mock(SchedulerLeaseRepository.class);
+        consumer = new RecordingConsumer();
+        when(leaseRepository.tryAcquire(eq(OutboxDispatcher.LEASE_NAME), anyString(), anyLong())).thenReturn(true);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+    }
+    
+    @Test
+    void deliversEveryAggregateInIdOrder() {
+        dispatch(event(1, "a"), event(2, "b"), event(3, "a"));
+        
+        verify(outboxRepository, timeout(1000)).deleteAll(List.of(1L, 2L, 3L));
+        assertEquals(List.of(1L, 2L, 3L), consumer.consumed);
+    }
+    
+    @Test
+    void failedEventHoldsBackOnlyItsOwnAggregate() {
+        consumer.failing = Set.of(1L);
+        dispatch(event(1, "a"), event(2, "b"), event(3, "a"));
+        
+        verify(outboxRepository, timeout(1000)).deleteAll(List.of(2L));
+        verify(outboxRepository).scheduleRetry(eq(1L), eq(1), eq(RETRY_DELAY_MS), anyString());
+        assertEquals(List.of(1L, 2L), consumer.consumed);
+    }
+    
+    @Test
+    void retriesBackOffExponentially() {
+        consumer.failing = Set.of(1L);
+        dispatch(event(1, "a", 2));
+        
+        verify(outboxRepository, timeout(1000)).scheduleRetry(eq(1L), eq(3), eq(4 * RETRY_DELAY_MS), anyString());
+        verify(outboxRepository, never()).markDead(anyLong(), anyInt(), anyString());
+    }
+    
+    @Test
+    void eventIsKeptAsDeadAfterMaxAttempts() {
+        consumer.failing = Set.of(1L);
+        dispatch(event(1, "a", MAX_ATTEMPTS - 1));
+        
+        verify(outboxRepository, timeout(1000)).markDead(eq(1L), eq(MAX_ATTEMPTS), anyString());
+        verify(outboxRepository, never()).scheduleRetry(anyLong(), anyInt(), anyLong(), anyString());
+    }
+    
+    @Test
+    void drainStopsAsSoonAsTheLeaseIsLost() throws InterruptedException {
+        // Renewed on every check: once for the poll, once before the batch, once before event 1, then lost
+        when(leaseRepository.tryAcquire(eq(OutboxDispatcher.LEASE_NAME), anyString(), anyLong()))
+                .thenReturn(true, true, true, false);
+        when(outboxRepository.findDispatchable(BATCH_SIZE))
+                .thenReturn(List.of(event(1, "a"), event(2, "b"), event(3, "c")));
+        dispatcher = dispatcher(0);
+        dispatcher.start();
+        
+        verify(outboxRepository, timeout(1000)).deleteAll(List.of(1L));
+        Thread.sleep(200);
+        verify(outboxRepository, times(1)).findDispatchable(BATCH_SIZE);
+        assertEquals(List.of(1L), consumer.consumed);
+    }
+    
+    @Test
+    void stopWaitsForTheEventInFlightBeforeReleasingTheLease() throws InterruptedException {
+        List<String> steps = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch consuming = new CountDownLatch(1);
+        consumer.onConsume = () -> {
+            consuming.countDown();
+            Thread.sleep(200);
+            steps.add("consumed");
+        };
+        doAnswer(invocation -> steps.add("released"))
+                .when(leaseRepository).release(eq(OutboxDispatcher.LEASE_NAME), anyString());
+        dispatch(event(1, "a"), event(2, "a"));
+        
+        assertTrue(consuming.await(1, TimeUnit.SECONDS));
+        dispatcher.stop();
+        dispatcher = null;
+        
+        assertEquals(List.of("consumed", "released"), steps);
+        verify(outboxRepository).deleteAll(List.of(1L));
+    }
+    
+    private void dispatch(StoredEvent... batch) {
+        when(outboxRepository.findDispatchable(BATCH_SIZE)).thenReturn(List.of(batch), List.of());
+        dispatcher = dispatcher(60000);
+        dispatcher.start();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private OutboxDispatcher dispatcher(long leaseRenewMs) {
+        return new OutboxDispatcher(outboxRepository, leaseRepository, List.of(consumer),
+                mock(PostgresNotificationBus.class), new ObjectMapper(), mock(ObjectProvider.class),
+                BATCH_SIZE, 20, MAX_ATTEMPTS, RETRY_DELAY_MS, 60000, 30000, leaseRenewMs);
+    }
+    
+    private static StoredEvent event(long id, String aggregateId) {
+        return event(id, aggregateId, 0);
+    }
+    
+    private static StoredEvent event(long id, String aggregateId, int attempts) {
+        return new StoredEvent(id, "TASK", aggregateId, DomainEventType.TASK_UPDATED.name(), "{}",
+                LocalDateTime.now(), attempts);
+    }
+    
+    private static class RecordingConsumer implements OutboxConsumer {
+        
+        private final List<Long> consumed = Collections.synchronizedList(new ArrayList<>());
+        private volatile Set<Long> failing = Set.of();
+        private volatile Step onConsume = () -> { };
+        
+        @Override
+        public boolean supports(DomainEventType type) {
+            return true;
+        }
+        
+        @Override
+        public void consume(OutboxEvent event) throws Exception {
+            consumed.add(event.id());
+            onConsume.run();
+            if (failing.contains(event.id())) {
+                throw new IllegalStateException("consumer failed for " + event.id());
+            }
+        }
+    }
+    
+    private interface Step {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,115 @@
+package com.projectmanagement.querybudget;
+
+import com.projectmanagement.security.JwtTokenProvider;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.IOException;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// Per-endpoint SQL statement budgets for the hot read paths, checked against the seed data set.
+// Every task page is full (more tasks per project than the default page size), so loading rows
+// one by one shows up as a count far above the budget
+@SpringBootTest(properties = {
+    "seed.users=20",
+    "seed.workspaces=4",
+    "seed.members-per-workspace=5",
+    "seed.projects-per-workspace=5",
+    "seed.tasks-per-project=60",
+    "seed.comments-per-task=3"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("seed")
+@Import(QueryBudgetConfiguration.class)
+// Close the context while the embedded database is still up: left to the JVM shutdown hooks, the lease
+// holders' @PreDestroy could run after Postgres stopped and wait out the pool's connection timeout
+@DirtiesContext
+class QueryBudgetTest {
+    
+    // Seed user 0 owns seed workspace 0 and is a member of all of its projects
+    private static final String USER_ID = "seed-u-0";
+    private static final String WORKSPACE_ID = "seed-w-0";
+    private static final String PROJECT_ID = "seed-p-0-0";
+    private static final String TASK_ID = "seed-t-0-0-0";
+    
+    private static EmbeddedPostgres postgres;
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private StatementCounter statementCounter;
+    
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    
+    private String token;
+    
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) throws IOException {
+        if (postgres == null) {
+            postgres = EmbeddedPostgres.start();
+        }
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+    
+    static Stream<Arguments> budgets() {
+        return Stream.of(
+            Arguments.of("/api/workspaces", 3),
+            Arguments.of("/api/workspaces/" + WORKSPACE_ID, 8),
+            Arguments.of("/api/projects", 12),
+            Arguments.of("/api/projects/workspace/" + WORKSPACE_ID, 12),
+            Arguments.of("/api/projects/" + PROJECT_ID, 12),
+            Arguments.of("/api/projects/" + PROJECT_ID + "/stats", 4),
+            // The board
+            Arguments.of("/api/tasks/project/" + PROJECT_ID, 8),
+            // "My tasks"
+            Arguments.of("/api/tasks", 8),
+            Arguments.of("/api/tasks/" + TASK_ID, 8),
+            Arguments.of("/api/comments/task/" + TASK_ID, 6)
+        );
+    }
+    
+    @BeforeEach
+    void authenticate() {
+        token = jwtTokenProvider.generateToken(USER_ID);
+    }
+    
+    // Counts everything the request issues, including statements run while the body is serialized
+    @ParameterizedTest(name = "GET {0} <= {1} statements")
+    @MethodSource("budgets")
+    void staysWithinStatementBudget(String path, int maxStatements) throws Exception {
+        statementCounter.start();
+        MvcResult result;
+        int statements;
+        try {
+            result = mockMvc.perform(get(path).header(HttpHeaders.AUTHORIZATION, "Bearer " + token)).andReturn();
+        } finally {
+            statements = statementCounter.stop();
+        }
+        
+        assertEquals(200, result.getResponse().getStatus(), "GET " + path);
+        assertTrue(statements <= maxStatements,
+                String.format("GET %s issued %d statements, budget %d", path, statements, maxStatements));
+    }
+}
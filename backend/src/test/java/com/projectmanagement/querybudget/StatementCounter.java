@@ -0,0 +1,29 @@
+package com.projectmanagement.querybudget;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate hands every SQL string it prepares to the inspector on the calling thread,
+// which makes a thread-local counter enough to attribute statements to a request
+public class StatementCounter implements StatementInspector {
+    
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+    
+    public void start() {
+        COUNT.set(new int[1]);
+    }
+    
+    public int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : 0;
+    }
+    
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
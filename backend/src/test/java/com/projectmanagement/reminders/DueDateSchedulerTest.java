@@ -0,0 +1,160 @@
+package com.projectmanagement.reminders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.dto.BoardEvent;
+import com.projectmanagement.events.BoardEventPublisher;
+import com.projectmanagement.events.PostgresNotificationBus;
+import com.projectmanagement.repository.SchedulerLeaseRepository;
+import com.projectmanagement.repository.TaskRepository;
+import com.projectmanagement.repository.TaskRepository.DueTask;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Catch-up on taking the lease over: the first tick replays the reminders that fell due since the previous
+// holder's watermark, but no further back than an hour, and none at all without a watermark
+class DueDateSchedulerTest {
+    
+    private static final long DUE_SOON_LEAD_MS = 3_600_000;
+    
+    private TaskRepository taskRepository;
+    private SchedulerLeaseRepository leaseRepository;
+    private final List<DueTask> openTasks = new ArrayList<>();
+    private final List<String> fired = new ArrayList<>();
+    private DueDateScheduler scheduler;
+    
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        leaseRepository = mock(SchedulerLeaseRepository.class);
+        BoardEventPublisher boardEventPublisher = mock(BoardEventPublisher.class);
+        when(leaseRepository.tryAcquire(eq(DueDateScheduler.LEASE_NAME), anyString(), anyLong())).thenReturn(true);
+        // Same keyset semantics as the native query
+        when(taskRepository.findOpenDueAfter(any(), anyString(), any(), anyInt())).thenAnswer(invocation -> {
+            LocalDateTime afterDueDate = invocation.getArgument(0);
+            String afterId = invocation.getArgument(1);
+            LocalDateTime dueBefore = invocation.getArgument(2);
+            int limit = invocation.getArgument(3);
+            return openTasks.stream()
+                    .filter(task -> task.getDueDate().isBefore(dueBefore))
+                    .filter(task -> task.getDueDate().isAfter(afterDueDate)
+                            || task.getDueDate().isEqual(afterDueDate) && task.getId().compareTo(afterId) > 0)
+                    .sorted(Comparator.comparing(DueTask::getDueDate).thenComparing(DueTask::getId))
+                    .limit(limit)
+                    .toList();
+        });
+        doAnswer(invocation -> {
+            BoardEvent.Type type = invocation.getArgument(0);
+            Collection<Object> reminders = invocation.getArgument(1);
+            Function<Object, String> taskId = invocation.getArgument(2);
+            reminders.forEach(reminder -> fired.add(type + ":" + taskId.apply(reminder)));
+            return null;
+        }).when(boardEventPublisher).publishTaskEvents(any(), anyCollection(), any(), any());
+        
+        scheduler = new DueDateScheduler(taskRepository, leaseRepository, boardEventPublisher,
+                mock(PostgresNotificationBus.class), new ObjectMapper(), mock(ObjectProvider.class),
+                DUE_SOON_LEAD_MS, 900_000, 2, 30_000, 10_000);
+    }
+    
+    @Test
+    void replaysRemindersMissedSinceTheWatermark() {
+        LocalDateTime now = LocalDateTime.now();
+        watermark(now.minusMinutes(10));
+        // Overdue before the watermark, so the previous holder already fired it
+        openTasks.add(task("already-overdue", now.minusMinutes(20)));
+        openTasks.add(task("missed-overdue", now.minusMinutes(5)));
+        // Its due-soon reminder fell due five minutes ago
+        openTasks.add(task("missed-due-soon", now.plusMinutes(55)));
+        openTasks.add(task("later", now.plusMinutes(70)));
+        
+        scheduler.tick();
+        
+        assertEquals(Set.of("TASK_OVERDUE:missed-overdue", "TASK_DUE_SOON:missed-due-soon"), Set.copyOf(fired));
+        assertEquals(2, fired.size());
+    }
+    
+    @Test
+    void catchUpStopsAtOneHour() {
+        LocalDateTime now = LocalDateTime.now();
+        watermark(now.minusHours(3));
+        openTasks.add(task("too-old", now.minusHours(2)));
+        openTasks.add(task("recent", now.minusMinutes(30)));
+        
+        scheduler.tick();
+        
+        assertEquals(List.of("TASK_OVERDUE:recent"), fired);
+    }
+    
+    @Test
+    void firstHolderDoesNotReplayThePast() {
+        LocalDateTime now = LocalDateTime.now();
+        when(leaseRepository.findWatermark(DueDateScheduler.LEASE_NAME)).thenReturn(Optional.empty());
+        openTasks.add(task("overdue", now.minusMinutes(1)));
+        
+        scheduler.tick();
+        
+        assertEquals(List.of(), fired);
+    }
+    
+    @Test
+    void catchUpReadsEveryBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        watermark(now.minusMinutes(30));
+        // Two share a due date, so the keyset has to continue on the id
+        openTasks.add(task("t1", now.minusMinutes(25)));
+        openTasks.add(task("t2", now.minusMinutes(20)));
+        openTasks.add(task("t3", now.minusMinutes(20)));
+        openTasks.add(task("t4", now.minusMinutes(15)));
+        openTasks.add(task("t5", now.minusMinutes(10)));
+        
+        scheduler.tick();
+        
+        assertEquals(Set.of("TASK_OVERDUE:t1", "TASK_OVERDUE:t2", "TASK_OVERDUE:t3", "TASK_OVERDUE:t4",
+                "TASK_OVERDUE:t5"), Set.copyOf(fired));
+        assertEquals(5, fired.size());
+    }
+    
+    private void watermark(LocalDateTime watermark) {
+        when(leaseRepository.findWatermark(DueDateScheduler.LEASE_NAME)).thenReturn(Optional.of(watermark));
+    }
+    
+    private static DueTask task(String id, LocalDateTime dueDate) {
+        return new DueTask() {
+            @Override
+            public String getId() {
+                return id;
+            }
+            
+            @Override
+            public String getProjectId() {
+                return "p1";
+            }
+            
+            @Override
+            public LocalDateTime getDueDate() {
+                return dueDate;
+            }
+        };
+    }
+}
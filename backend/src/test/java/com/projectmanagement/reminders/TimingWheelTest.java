@@ -0,0 +1,108 @@
+package com.projectmanagement.reminders;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// A small wheel so every level is easy to reach: 1s ticks, 4 slots, 3 levels, so level 1 slots are 4s wide,
+// level 2 slots 16s wide and the horizon is 64s
+class TimingWheelTest {
+    
+    private static final long TICK_MS = 1000;
+    
+    private final TimingWheel<String> wheel = new TimingWheel<>(TICK_MS, 4, 3, 0);
+    
+    @Test
+    void horizonIsAFullTurnOfTheTopLevel() {
+        assertEquals(64_000, wheel.horizonMs());
+    }
+    
+    @Test
+    void startIsRoundedDownToATick() {
+        assertEquals(5000, new TimingWheel<String>(TICK_MS, 4, 3, 5400).currentTimeMs());
+    }
+    
+    @Test
+    void timerFiresAtTheStartOfItsTick() {
+        assertTrue(wheel.schedule("a", 2500, "a"));
+        
+        assertEquals(List.of(), wheel.advanceTo(1999));
+        assertEquals(List.of("a"), wheel.advanceTo(2000));
+        assertEquals(0, wheel.size());
+    }
+    
+    @Test
+    void timerThatIsAlreadyDueIsNotKept() {
+        wheel.advanceTo(10_000);
+        
+        assertFalse(wheel.schedule("past", 9000, "past"));
+        assertFalse(wheel.schedule("now", 10_500, "now"));
+        assertEquals(0, wheel.size());
+    }
+    
+    @Test
+    void timersCascadeDownEveryLevelAndFireOnTime() {
+        // Placed on level 2, moved to level 1 at 32s, to level 0 at 36s
+        assertTrue(wheel.schedule("far", 37_500, "far"));
+        // Placed on level 1, moved to level 0 at 8s
+        assertTrue(wheel.schedule("mid", 9000, "mid"));
+        
+        assertEquals(List.of(), wheel.advanceTo(8999));
+        assertEquals(List.of("mid"), wheel.advanceTo(9000));
+        assertEquals(List.of(), wheel.advanceTo(36_999));
+        assertEquals(List.of("far"), wheel.advanceTo(37_000));
+    }
+    
+    @Test
+    void longAdvanceFiresEveryTimerInExpirationOrder() {
+        wheel.schedule("c", 50_000, "c");
+        wheel.schedule("a", 3000, "a");
+        wheel.schedule("b", 17_000, "b");
+        
+        assertEquals(List.of("a", "b", "c"), wheel.advanceTo(60_000));
+    }
+    
+    @Test
+    void cancelledTimerNeverFires() {
+        wheel.schedule("a", 3000, "a");
+        
+        assertTrue(wheel.cancel("a"));
+        assertFalse(wheel.cancel("a"));
+        assertEquals(List.of(), wheel.advanceTo(10_000));
+    }
+    
+    @Test
+    void timerCanBeCancelledAfterItCascaded() {
+        wheel.schedule("far", 37_500, "far");
+        wheel.advanceTo(36_000);
+        
+        assertTrue(wheel.cancel("far"));
+        assertEquals(List.of(), wheel.advanceTo(40_000));
+        assertEquals(0, wheel.size());
+    }
+    
+    @Test
+    void schedulingTheSameKeyAgainReplacesTheTimer() {
+        wheel.schedule("a", 3000, "first");
+        wheel.schedule("a", 20_000, "second");
+        
+        assertEquals(1, wheel.size());
+        assertEquals(List.of(), wheel.advanceTo(10_000));
+        assertEquals(List.of("second"), wheel.advanceTo(20_000));
+    }
+    
+    @Test
+    void timerBeyondTheHorizonIsRejected() {
+        wheel.advanceTo(5000);
+        
+        assertThrows(IllegalArgumentException.class, () -> wheel.schedule("late", 5000 + wheel.horizonMs(), "late"));
+        assertEquals(0, wheel.size());
+        assertTrue(wheel.schedule("last", 5000 + wheel.horizonMs() - 1, "last"));
+        assertEquals(List.of("last"), wheel.advanceTo(5000 + wheel.horizonMs()));
+    }
+}
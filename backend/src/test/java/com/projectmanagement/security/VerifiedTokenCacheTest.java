@@ -0,0 +1,59 @@
+package com.projectmanagement.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VerifiedTokenCacheTest {
+    
+    private static final long HOUR_MS = 3_600_000;
+    
+    @Test
+    void returnsTheCachedUserUntilTheTokenExpires() throws InterruptedException {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        cache.put("short", "u1", new Date(System.currentTimeMillis() + 100));
+        cache.put("long", "u2", new Date(System.currentTimeMillis() + HOUR_MS));
+        
+        assertEquals("u1", cache.getUserId("short"));
+        Thread.sleep(200);
+        
+        assertNull(cache.getUserId("short"));
+        assertEquals("u2", cache.getUserId("long"));
+    }
+    
+    @Test
+    void alreadyExpiredTokenIsNotCached() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        cache.put("expired", "u1", new Date(System.currentTimeMillis() - 1));
+        
+        assertNull(cache.getUserId("expired"));
+    }
+    
+    @Test
+    void fullCacheOfLiveTokensStillCachesNewOnes() throws InterruptedException {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100);
+        Date expiration = new Date(System.currentTimeMillis() + HOUR_MS);
+        for (int i = 0; i < 1000; i++) {
+            cache.put("token-" + i, "u" + i, expiration);
+        }
+        
+        assertEquals("u999", cache.getUserId("token-999"));
+        // Eviction runs asynchronously after the writes
+        for (int i = 0; i < 50 && cache.size() > 100; i++) {
+            Thread.sleep(20);
+        }
+        assertTrue(cache.size() <= 100, "size " + cache.size());
+    }
+    
+    @Test
+    void zeroSizeDisablesCaching() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(0);
+        cache.put("token", "u1", new Date(System.currentTimeMillis() + HOUR_MS));
+        
+        assertNull(cache.getUserId("token"));
+    }
+}
@@ -0,0 +1,134 @@
+package com.projectmanagement.seed;
+
+import com.projectmanagement.service.ProjectStatsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// Loads a scalable synthetic data set (profile "seed") so that per-request query counts grow
+// visibly when an endpoint loads rows one by one. Runs once: an existing seed is left untouched
+@Slf4j
+@Component
+@Profile("seed")
+public class DemoDataSeeder implements ApplicationRunner {
+    
+    private static final String SEED_MARKER = "seed-u-0";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProjectStatsService projectStatsService;
+    private final int users;
+    private final int workspaces;
+    private final int membersPerWorkspace;
+    private final int projectsPerWorkspace;
+    private final int tasksPerProject;
+    private final int commentsPerTask;
+    
+    public DemoDataSeeder(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ProjectStatsService projectStatsService,
+            @Value("${seed.users:50}") int users,
+            @Value("${seed.workspaces:20}") int workspaces,
+            @Value("${seed.members-per-workspace:10}") int membersPerWorkspace,
+            @Value("${seed.projects-per-workspace:10}") int projectsPerWorkspace,
+            @Value("${seed.tasks-per-project:50}") int tasksPerProject,
+            @Value("${seed.comments-per-task:3}") int commentsPerTask) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.projectStatsService = projectStatsService;
+        this.users = users;
+        this.workspaces = workspaces;
+        // Members are distinct users, so a workspace cannot have more members than there are users
+        this.membersPerWorkspace = Math.min(membersPerWorkspace, users);
+        this.projectsPerWorkspace = projectsPerWorkspace;
+        this.tasksPerProject = tasksPerProject;
+        this.commentsPerTask = commentsPerTask;
+    }
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE id = ?", Integer.class, SEED_MARKER);
+        if (existing != null && existing > 0) {
+            log.info("Seed data already present, skipping");
+            return;
+        }
+        
+        long started = System.currentTimeMillis();
+        transactionTemplate.executeWithoutResult(status -> insertRows());
+        List<String> projectIds = jdbcTemplate.queryForList("SELECT id FROM projects WHERE id LIKE 'seed-p-%'", String.class);
+        projectIds.forEach(projectStatsService::refresh);
+        log.info("Seeded {} users, {} workspaces, {} projects, {} tasks and {} comments in {} ms",
+                users, workspaces, projectIds.size(), projectIds.size() * tasksPerProject,
+                projectIds.size() * tasksPerProject * commentsPerTask, System.currentTimeMillis() - started);
+    }
+    
+    // Rows are generated inside PostgreSQL so even large seeds take a handful of statements.
+    // Users log in with seed-user-<n>@example.com
+    private void insertRows() {
+        jdbcTemplate.update(
+            "INSERT INTO users (id, name, email, image, created_at, updated_at) " +
+            "SELECT 'seed-u-' || u, 'Seed User ' || u, 'seed-user-' || u || '@example.com', '', " +
+            "now() - make_interval(secs => u), now() " +
+            "FROM generate_series(0, ? - 1) u",
+            users);
+        
+        jdbcTemplate.update(
+            "INSERT INTO workspaces (id, name, slug, description, settings, owner_id, image_url, created_at, updated_at, version) " +
+            "SELECT 'seed-w-' || w, 'Seed Workspace ' || w, 'seed-workspace-' || w, '', '{}', 'seed-u-' || (w % ?), '', " +
+            "now() - make_interval(secs => w), now(), 0 " +
+            "FROM generate_series(0, ? - 1) w",
+            users, workspaces);
+        
+        // Member k of workspace w is user (w + k) mod users; k = 0 is the owner
+        jdbcTemplate.update(
+            "INSERT INTO workspace_members (id, user_id, workspace_id, message, role) " +
+            "SELECT 'seed-wm-' || w || '-' || k, 'seed-u-' || ((w + k) % ?), 'seed-w-' || w, '', " +
+            "CASE WHEN k = 0 THEN 'ADMIN' ELSE 'MEMBER' END " +
+            "FROM generate_series(0, ? - 1) w, generate_series(0, ? - 1) k",
+            users, workspaces, membersPerWorkspace);
+        
+        jdbcTemplate.update(
+            "INSERT INTO projects (id, name, description, priority, status, team_lead, workspace_id, progress, " +
+            "created_at, updated_at, version) " +
+            "SELECT 'seed-p-' || w || '-' || j, 'Seed Project ' || w || '-' || j, '', " +
+            "(ARRAY['LOW', 'MEDIUM', 'HIGH'])[1 + j % 3], 'ACTIVE', 'seed-u-' || (w % ?), 'seed-w-' || w, 0, " +
+            "now() - make_interval(secs => w * ? + j), now(), 0 " +
+            "FROM generate_series(0, ? - 1) w, generate_series(0, ? - 1) j",
+            users, projectsPerWorkspace, workspaces, projectsPerWorkspace);
+        
+        jdbcTemplate.update(
+            "INSERT INTO project_members (id, user_id, project_id) " +
+            "SELECT 'seed-pm-' || w || '-' || j || '-' || k, 'seed-u-' || ((w + k) % ?), 'seed-p-' || w || '-' || j " +
+            "FROM generate_series(0, ? - 1) w, generate_series(0, ? - 1) j, generate_series(0, ? - 1) k",
+            users, workspaces, projectsPerWorkspace, membersPerWorkspace);
+        
+        // Statuses, types and priorities cycle; due dates spread from ten days overdue to twenty days ahead
+        jdbcTemplate.update(
+            "INSERT INTO tasks (id, project_id, title, description, status, type, priority, assignee_id, due_date, " +
+            "created_at, updated_at, version) " +
+            "SELECT 'seed-t-' || w || '-' || j || '-' || t, 'seed-p-' || w || '-' || j, 'Seed Task ' || t, '', " +
+            "(ARRAY['TODO', 'IN_PROGRESS', 'DONE'])[1 + t % 3], " +
+            "(ARRAY['TASK', 'BUG', 'FEATURE', 'IMPROVEMENT', 'OTHER'])[1 + t % 5], " +
+            "(ARRAY['LOW', 'MEDIUM', 'HIGH'])[1 + (t / 3) % 3], " +
+            "'seed-u-' || ((w + t % ?) % ?), now() + make_interval(days => t % 30 - 10), " +
+            "now() - make_interval(secs => t), now(), 0 " +
+            "FROM generate_series(0, ? - 1) w, generate_series(0, ? - 1) j, generate_series(0, ? - 1) t",
+            membersPerWorkspace, users, workspaces, projectsPerWorkspace, tasksPerProject);
+        
+        jdbcTemplate.update(
+            "INSERT INTO comments (id, content, user_id, task_id, created_at) " +
+            "SELECT t.id || '-c' || c, 'Seed comment ' || c, t.assignee_id, t.id, now() - make_interval(secs => c) " +
+            "FROM tasks t, generate_series(0, ? - 1) c " +
+            "WHERE t.id LIKE 'seed-t-%'",
+            commentsPerTask);
+    }
+}
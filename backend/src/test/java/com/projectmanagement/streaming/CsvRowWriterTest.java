@@ -0,0 +1,36 @@
+package com.projectmanagement.streaming;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CsvRowWriterTest {
+    
+    @Test
+    void quotesOnlyFieldsThatNeedIt() throws IOException {
+        assertEquals("plain,\"a,b\",\"say \"\"hi\"\"\",,42\r\n", csv("plain", "a,b", "say \"hi\"", null, 42));
+    }
+    
+    @Test
+    void neutralizesTextThatStartsAFormula() throws IOException {
+        assertEquals("\"'=HYPERLINK(\"\"http://x\"\")\",\"'+1\",\"'-1+2\",\"'@SUM(A1)\",\"'\tx\"\r\n",
+                csv("=HYPERLINK(\"http://x\")", "+1", "-1+2", "@SUM(A1)", "\tx"));
+    }
+    
+    @Test
+    void leavesNumbersAndInnerSignsAlone() throws IOException {
+        assertEquals("-5,a=b,2024-01-01T10:00\r\n", csv(-5, "a=b", "2024-01-01T10:00"));
+    }
+    
+    private static String csv(Object... values) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CsvRowWriter writer = new CsvRowWriter(out)) {
+            writer.writeRow(values);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -1,7 +1,7 @@
 import { useState } from "react";
 import { XIcon } from "lucide-react";
 import { useDispatch, useSelector } from "react-redux";
-import { setCurrentWorkspace, fetchWorkspaces } from "../features/workspaceSlice";
+import { fetchWorkspaces } from "../features/workspaceSlice";
 import { workspaceAPI } from "../services/api";
 import { assets } from "../assets/assets";
 import toast from "react-hot-toast";
@@ -42,11 +42,8 @@ const CreateWorkspaceDialog = ({ isDialogOpen, setIsDialogOpen }) => {
 
             toast.success(`Workspace "${formData.name}" created successfully!`);
 
-            // Reload workspaces from API
-            await dispatch(fetchWorkspaces()).unwrap();
-            
-            // Set the new workspace as current
-            dispatch(setCurrentWorkspace(newWorkspace.id));
+            // Reload workspaces from API and switch to the new one
+            await dispatch(fetchWorkspaces(newWorkspace.id)).unwrap();
 
             // Reset form and close dialog
             setFormData({ name: "", description: "" });
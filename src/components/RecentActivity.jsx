@@ -2,7 +2,7 @@ import { useEffect, useState } from "react";
 import { GitCommit, MessageSquare, Clock, Bug, Zap, Square } from "lucide-react";
 import { format } from "date-fns";
 import { useSelector } from "react-redux";
-import { taskAPI } from "../services/api";
+import { workspaceAPI } from "../services/api";
 
 const typeIcons = {
     BUG: { icon: Bug, color: "text-red-500 dark:text-red-400" },
@@ -18,46 +18,78 @@ const statusColors = {
     DONE: "bg-emerald-200 text-emerald-800 dark:bg-emerald-500 dark:text-emerald-900",
 };
 
+const actionLabels = {
+    TASK_CREATED: "Task created",
+    TASK_UPDATED: "Task updated",
+    TASK_DELETED: "Task deleted",
+    COMMENT_CREATED: "Comment added",
+    COMMENT_DELETED: "Comment deleted",
+    PROJECT_CREATED: "Project created",
+    PROJECT_UPDATED: "Project updated",
+    PROJECT_DELETED: "Project deleted",
+    PROJECT_MEMBER_ADDED: "Member added to project",
+    WORKSPACE_CREATED: "Workspace created",
+    WORKSPACE_UPDATED: "Workspace updated",
+    WORKSPACE_MEMBER_ADDED: "Member added to workspace",
+};
+
+const RECENT_ACTIVITY_LIMIT = 10;
+
+// Updates store only the changed fields as { field: { from, to } }; creations store the full snapshot
+const currentValue = (details, field) => {
+    const value = details?.[field];
+    return value && typeof value === "object" && "to" in value ? value.to : value;
+};
+
 const RecentActivity = () => {
-    const [tasks, setTasks] = useState([]);
+    const [activity, setActivity] = useState([]);
     const { currentWorkspace } = useSelector((state) => state.workspace);
 
+    // The newest entries of the workspace activity log: one small page instead of every task of every project
     useEffect(() => {
-        const fetchTasks = async () => {
-            if (!currentWorkspace || !currentWorkspace.projects) {
-                setTasks([]);
+        const fetchActivity = async () => {
+            if (!currentWorkspace?.id) {
+                setActivity([]);
                 return;
             }
 
-            const projects = currentWorkspace.projects || [];
-            
             try {
-                // Fetch tasks from API for each project
-                const taskPromises = projects.map(project => 
-                    project?.id ? taskAPI.getByProject(project.id) : Promise.resolve([])
-                );
-                const taskArrays = await Promise.all(taskPromises);
-                const allTasks = taskArrays.flat();
-                
-                // Sort by updated date (most recent first)
-                const sortedTasks = allTasks.sort((a, b) => {
-                    const dateA = new Date(a?.updatedAt || a?.updated_at || a?.createdAt || a?.created_at || 0);
-                    const dateB = new Date(b?.updatedAt || b?.updated_at || b?.createdAt || b?.created_at || 0);
-                    return dateB - dateA;
-                });
-                
-                // Limit to most recent 10 tasks
-                setTasks(sortedTasks.slice(0, 10));
+                const page = await workspaceAPI.getActivity(currentWorkspace.id, { limit: RECENT_ACTIVITY_LIMIT });
+                setActivity(page.items);
             } catch (error) {
-                console.error("Error fetching tasks for recent activity:", error);
-                // Fallback to tasks from Redux state
-                const tasks = projects.flatMap((project) => project?.tasks || []);
-                setTasks(tasks);
+                console.error("Error fetching recent activity:", error);
+                setActivity([]);
             }
         };
 
-        fetchTasks();
-    }, [currentWorkspace]);
+        fetchActivity();
+    }, [currentWorkspace?.id]);
+
+    const tasksById = {};
+    (currentWorkspace?.projects || []).forEach((project) => {
+        (project?.tasks || []).forEach((task) => {
+            tasksById[task.id] = task;
+        });
+    });
+    const membersById = {};
+    (currentWorkspace?.members || []).forEach((member) => {
+        if (member?.user) membersById[member.userId || member.user.id] = member.user;
+    });
+
+    const tasks = activity.map((entry) => {
+        const taskId = entry.subjectType === "TASK" ? entry.subjectId : currentValue(entry.details, "taskId");
+        const task = tasksById[taskId];
+        return {
+            id: entry.id,
+            title: currentValue(entry.details, "title") || currentValue(entry.details, "name") || task?.title || actionLabels[entry.action] || entry.action,
+            action: actionLabels[entry.action] || entry.action,
+            changes: entry.action.endsWith("_UPDATED") ? Object.keys(entry.details || {}) : [],
+            type: entry.subjectType === "COMMENT" ? "IMPROVEMENT" : currentValue(entry.details, "type") || task?.type,
+            status: currentValue(entry.details, "status") || task?.status,
+            actor: membersById[entry.actorId],
+            occurredAt: entry.occurredAt,
+        };
+    });
 
     return (
         <div className="bg-white dark:bg-zinc-950 dark:bg-gradient-to-br dark:from-zinc-800/70 dark:to-zinc-900/50 border border-zinc-200 dark:border-zinc-800 hover:border-zinc-300 dark:hover:border-zinc-700 rounded-lg transition-all overflow-hidden">
@@ -90,22 +122,27 @@ const RecentActivity = () => {
                                                 <h4 className="text-zinc-800 dark:text-zinc-200 truncate">
                                                     {task.title}
                                                 </h4>
-                                                <span className={`ml-2 px-2 py-1 rounded text-xs ${statusColors[task.status] || "bg-zinc-300 text-zinc-700 dark:bg-zinc-700 dark:text-zinc-300"}`}>
-                                                    {task.status.replace("_", " ")}
-                                                </span>
+                                                {task.status && (
+                                                    <span className={`ml-2 px-2 py-1 rounded text-xs ${statusColors[task.status] || "bg-zinc-300 text-zinc-700 dark:bg-zinc-700 dark:text-zinc-300"}`}>
+                                                        {task.status.replace("_", " ")}
+                                                    </span>
+                                                )}
                                             </div>
                                             <div className="flex items-center gap-3 text-xs text-zinc-500 dark:text-zinc-400">
-                                                <span className="capitalize">{task.type.toLowerCase()}</span>
-                                                {task.assignee && (
+                                                <span>
+                                                    {task.action}
+                                                    {task.changes.length > 0 && `: ${task.changes.join(", ")}`}
+                                                </span>
+                                                {task.actor?.name && (
                                                     <div className="flex items-center gap-1">
                                                         <div className="w-4 h-4 bg-zinc-300 dark:bg-zinc-700 rounded-full flex items-center justify-center text-[10px] text-zinc-800 dark:text-zinc-200">
-                                                            {task.assignee.name[0].toUpperCase()}
+                                                            {task.actor.name[0].toUpperCase()}
                                                         </div>
-                                                        {task.assignee.name}
+                                                        {task.actor.name}
                                                     </div>
                                                 )}
                                                 <span>
-                                                    {format(new Date(task.updatedAt || task.updated_at || task.createdAt || task.created_at), "MMM d, h:mm a")}
+                                                    {format(new Date(task.occurredAt), "MMM d, h:mm a")}
                                                 </span>
                                             </div>
                                         </div>
@@ -1,7 +1,10 @@
 import { FolderOpen, CheckCircle, Users, AlertTriangle } from "lucide-react";
 import { useEffect, useState } from "react";
 import { useSelector } from "react-redux";
-import { taskAPI } from "../services/api";
+import { projectAPI, taskAPI } from "../services/api";
+
+// "My Tasks" counts one page of the caller's tasks and shows "200+" beyond that
+const MY_TASKS_LIMIT = 200;
 
 export default function StatsGrid() {
     const currentWorkspace = useSelector(
@@ -67,18 +70,28 @@ export default function StatsGrid() {
 
             const projects = currentWorkspace.projects || [];
             
-            // Fetch all tasks from API for all projects in the workspace
-            let allTasks = [];
+            // Task counts come from the server instead of every task page: the overdue total from each
+            // project's stats, "my tasks" from one page of the caller's tasks in this workspace
+            let myTasks = 0;
+            let overdueIssues = 0;
             try {
-                const taskPromises = projects.map(project => 
-                    project?.id ? taskAPI.getByProject(project.id) : Promise.resolve([])
-                );
-                const taskArrays = await Promise.all(taskPromises);
-                allTasks = taskArrays.flat();
+                const [projectStats, myTasksPage] = await Promise.all([
+                    Promise.all(projects.map((project) =>
+                        project?.id ? projectAPI.getStats(project.id).catch(() => null) : null
+                    )),
+                    taskAPI.getAll({ workspaceId: currentWorkspace.id }, { limit: MY_TASKS_LIMIT }),
+                ]);
+                overdueIssues = projectStats.reduce((sum, stats) => sum + (stats?.overdueTasks || 0), 0);
+                myTasks = myTasksPage.nextCursor ? `${myTasksPage.items.length}+` : myTasksPage.items.length;
             } catch (error) {
-                console.error("Error fetching tasks for stats:", error);
+                console.error("Error fetching task stats:", error);
                 // Fallback to tasks from Redux state
-                allTasks = projects.flatMap((project) => project?.tasks || []);
+                const allTasks = projects.flatMap((project) => project?.tasks || []);
+                myTasks = allTasks.filter((t) => t?.assigneeId === user?.id || t?.assignee?.id === user?.id).length;
+                overdueIssues = allTasks.filter((t) => {
+                    const dueDate = t?.dueDate || t?.due_date;
+                    return dueDate && new Date(dueDate) < new Date() && t?.status !== "DONE";
+                }).length;
             }
 
             // Calculate stats
@@ -88,25 +101,12 @@ export default function StatsGrid() {
             ).length;
             const completedProjects = projects.filter((p) => p.status === "COMPLETED").length;
             
-            // My Tasks: filter by user ID (check both assigneeId and assignee.id)
-            const myTasks = allTasks.filter((t) => {
-                return t?.assigneeId === user?.id || 
-                       t?.assignee?.id === user?.id ||
-                       t?.assignee?.email === user?.email;
-            });
-            
-            // Overdue tasks
-            const overdueIssues = allTasks.filter((t) => {
-                const dueDate = t?.dueDate || t?.due_date;
-                return dueDate && new Date(dueDate) < new Date() && t?.status !== "DONE";
-            });
-
             setStats({
                 totalProjects,
                 activeProjects,
                 completedProjects,
-                myTasks: myTasks.length,
-                overdueIssues: overdueIssues.length,
+                myTasks,
+                overdueIssues,
             });
         };
 
@@ -1,79 +1,70 @@
 import { useEffect, useState } from "react";
 import { ArrowRight, Clock, AlertTriangle, User } from "lucide-react";
 import { useSelector } from "react-redux";
+import { format } from "date-fns";
 import { taskAPI } from "../services/api";
 
+// Each card counts up to CARD_LIMIT tasks and shows "50+" beyond that
+const CARD_LIMIT = 50;
+const EMPTY_PAGE = { items: [], nextCursor: null };
+
 export default function TasksSummary() {
 
     const { currentWorkspace } = useSelector((state) => state.workspace);
     const { user } = useSelector((state) => state.auth);
-    const [tasks, setTasks] = useState([]);
+    const [summary, setSummary] = useState({ myTasks: EMPTY_PAGE, overdue: EMPTY_PAGE, inProgress: EMPTY_PAGE });
 
-    // Fetch all tasks from API for all projects in current workspace
+    // One page per card of the caller's tasks in the current workspace, filtered on the server
     useEffect(() => {
-        const fetchTasks = async () => {
-            if (!currentWorkspace || !currentWorkspace.projects) {
-                setTasks([]);
+        const fetchSummary = async () => {
+            if (!currentWorkspace?.id) {
+                setSummary({ myTasks: EMPTY_PAGE, overdue: EMPTY_PAGE, inProgress: EMPTY_PAGE });
                 return;
             }
 
-            const projects = currentWorkspace.projects || [];
-            
+            const workspaceId = currentWorkspace.id;
+            const page = { limit: CARD_LIMIT };
             try {
-                // Fetch tasks from API for each project
-                const taskPromises = projects.map(project => 
-                    project?.id ? taskAPI.getByProject(project.id) : Promise.resolve([])
-                );
-                const taskArrays = await Promise.all(taskPromises);
-                const allTasks = taskArrays.flat();
-                setTasks(allTasks);
+                const [myTasks, overdue, inProgress] = await Promise.all([
+                    taskAPI.getAll({ workspaceId, sort: "dueDate" }, page),
+                    taskAPI.getAll({ workspaceId, open: true, dueTo: format(new Date(), "yyyy-MM-dd'T'HH:mm:ss") }, page),
+                    taskAPI.getAll({ workspaceId, status: "IN_PROGRESS" }, page),
+                ]);
+                setSummary({ myTasks, overdue, inProgress });
             } catch (error) {
                 console.error("Error fetching tasks for summary:", error);
-                // Fallback to tasks from Redux state
-                const allTasks = projects.flatMap((project) => project?.tasks || []);
-                setTasks(allTasks);
+                setSummary({ myTasks: EMPTY_PAGE, overdue: EMPTY_PAGE, inProgress: EMPTY_PAGE });
             }
         };
 
-        fetchTasks();
-    }, [currentWorkspace]);
-
-    // My Tasks: filter by user ID (check both assigneeId and assignee.id)
-    const myTasks = tasks.filter(i => 
-        i?.assigneeId === user?.id || 
-        i?.assignee?.id === user?.id ||
-        i?.assignee?.email === user?.email
-    );
-    const overdueTasks = tasks.filter(t => {
-        if (!t.dueDate && !t.due_date) return false;
-        const dueDate = t.dueDate || t.due_date;
-        return new Date(dueDate) < new Date() && t.status !== 'DONE';
-    });
-    const inProgressIssues = tasks.filter(i => i.status === 'IN_PROGRESS');
+        fetchSummary();
+    }, [currentWorkspace?.id, user?.id]);
 
     const summaryCards = [
         {
             title: "My Tasks",
-            count: myTasks.length,
+            page: summary.myTasks,
             icon: User,
             color: "bg-emerald-100 text-emerald-800 dark:bg-emerald-950 dark:text-emerald-400",
-            items: myTasks.slice(0, 3)
         },
         {
             title: "Overdue",
-            count: overdueTasks.length,
+            page: summary.overdue,
             icon: AlertTriangle,
             color: "bg-red-100 text-red-800 dark:bg-red-950 dark:text-red-400",
-            items: overdueTasks.slice(0, 3)
         },
         {
             title: "In Progress",
-            count: inProgressIssues.length,
+            page: summary.inProgress,
             icon: Clock,
             color: "bg-blue-100 text-blue-800 dark:bg-blue-950 dark:text-blue-400",
-            items: inProgressIssues.slice(0, 3)
         }
-    ];
+    ].map((card) => ({
+        ...card,
+        count: card.page.items.length,
+        more: Boolean(card.page.nextCursor),
+        items: card.page.items.slice(0, 3),
+    }));
 
     return (
         <div className="space-y-6">
@@ -87,7 +78,7 @@ export default function TasksSummary() {
                             <div className="flex items-center justify-between flex-1">
                                 <h3 className="text-sm font-medium text-gray-800 dark:text-white">{card.title}</h3>
                                 <span className={`inline-block mt-1 px-2 py-1 rounded text-xs font-semibold ${card.color}`}>
-                                    {card.count}
+                                    {card.count}{card.more ? "+" : ""}
                                 </span>
                             </div>
                         </div>
@@ -111,7 +102,7 @@ export default function TasksSummary() {
                                 ))}
                                 {card.count > 3 && (
                                     <button className="flex items-center justify-center w-full text-sm text-gray-500 dark:text-zinc-400 hover:text-gray-800 dark:hover:text-white mt-2">
-                                        View {card.count - 3} more <ArrowRight className="w-3 h-3 ml-2" />
+                                        View {card.count - 3}{card.more ? "+" : ""} more <ArrowRight className="w-3 h-3 ml-2" />
                                     </button>
                                 )}
                             </div>
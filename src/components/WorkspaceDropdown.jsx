@@ -1,7 +1,7 @@
 import { useState, useRef, useEffect } from "react";
 import { ChevronDown, Check, Plus, Trash2 } from "lucide-react";
 import { useDispatch, useSelector } from "react-redux";
-import { setCurrentWorkspace, fetchWorkspaces, setWorkspaces, deleteWorkspace } from "../features/workspaceSlice";
+import { setCurrentWorkspace, fetchWorkspaces, loadWorkspace, deleteWorkspace } from "../features/workspaceSlice";
 import { workspaceAPI } from "../services/api";
 import { useNavigate } from "react-router-dom";
 import CreateWorkspaceDialog from "./CreateWorkspaceDialog";
@@ -21,14 +21,7 @@ function WorkspaceDropdown() {
     const onSelectWorkspace = async (workspaceId) => {
         try {
             // Fetch full workspace details including projects and members
-            const fullWorkspace = await workspaceAPI.getById(workspaceId);
-            
-            // Update workspaces list with the full workspace
-            const updatedWorkspaces = workspaces.map(w => 
-                w.id === workspaceId ? fullWorkspace : w
-            );
-            dispatch(setWorkspaces(updatedWorkspaces));
-            dispatch(setCurrentWorkspace(workspaceId));
+            await dispatch(loadWorkspace(workspaceId)).unwrap();
             setIsOpen(false);
             navigate('/');
         } catch (error) {
@@ -127,7 +120,7 @@ function WorkspaceDropdown() {
                                             {ws.name}
                                         </p>
                                         <p className="text-xs text-gray-500 dark:text-zinc-400 truncate">
-                                            {ws.members?.length || 0} member{ws.members?.length !== 1 ? "s" : ""}
+                                            {ws.memberCount ?? ws.members?.length ?? 0} member{(ws.memberCount ?? ws.members?.length) !== 1 ? "s" : ""}
                                         </p>
                                     </div>
                                     <div className="flex items-center gap-2">
@@ -1,19 +1,49 @@
 import { createSlice, createAsyncThunk } from "@reduxjs/toolkit";
 import { workspaceAPI } from "../services/api";
 
-// Load workspaces from API
+// The list endpoint only returns summaries (no projects or members), so the current
+// workspace is always loaded in full from GET /workspaces/{id}
+const normalizeWorkspace = (w) => ({
+    ...w,
+    projects: Array.isArray(w?.projects) ? w.projects.map(p => ({
+        ...p,
+        tasks: Array.isArray(p?.tasks) ? p.tasks : [],
+        members: Array.isArray(p?.members) ? p.members : []
+    })) : [],
+    members: Array.isArray(w?.members) ? w.members : []
+});
+
+// Load workspaces from API, together with the full current workspace.
+// Pass a workspace id to switch to it; otherwise the current (or stored) one is kept
 export const fetchWorkspaces = createAsyncThunk(
     'workspace/fetchWorkspaces',
-    async (_, { rejectWithValue }) => {
+    async (workspaceId, { getState, rejectWithValue }) => {
         try {
             const workspaces = await workspaceAPI.getAll();
-            return workspaces;
+            const selectedId = (typeof workspaceId === 'string' && workspaceId)
+                || getState().workspace.currentWorkspace?.id
+                || localStorage.getItem("currentWorkspaceId");
+            const selected = workspaces.find(w => w?.id === selectedId) || workspaces[0];
+            const currentWorkspace = selected ? await workspaceAPI.getById(selected.id) : null;
+            return { workspaces, currentWorkspace };
         } catch (error) {
             return rejectWithValue(error.message || 'Failed to fetch workspaces');
         }
     }
 );
 
+// Switch to a workspace, loading its projects and members
+export const loadWorkspace = createAsyncThunk(
+    'workspace/loadWorkspace',
+    async (workspaceId, { rejectWithValue }) => {
+        try {
+            return await workspaceAPI.getById(workspaceId);
+        } catch (error) {
+            return rejectWithValue(error.message || 'Failed to load workspace');
+        }
+    }
+);
+
 const initialState = {
     workspaces: [],
     currentWorkspace: null,
@@ -203,35 +233,30 @@ const workspaceSlice = createSlice({
             .addCase(fetchWorkspaces.fulfilled, (state, action) => {
                 state.loading = false;
                 // Ensure payload is an array
-                const workspaces = Array.isArray(action.payload) ? action.payload : [];
-                state.workspaces = workspaces;
-                
-                // Normalize workspaces: ensure projects and members are arrays
-                state.workspaces = workspaces.map(w => ({
-                    ...w,
-                    projects: Array.isArray(w?.projects) ? w.projects.map(p => ({
-                        ...p,
-                        tasks: Array.isArray(p?.tasks) ? p.tasks : [],
-                        members: Array.isArray(p?.members) ? p.members : []
-                    })) : [],
-                    members: Array.isArray(w?.members) ? w.members : []
-                }));
-                
-                // Set first workspace as current if none selected
-                if (!state.currentWorkspace && state.workspaces.length > 0) {
-                    const storedId = localStorage.getItem("currentWorkspaceId");
-                    const workspace = storedId 
-                        ? state.workspaces.find(w => w?.id === storedId)
-                        : state.workspaces[0];
-                    if (workspace) {
-                        state.currentWorkspace = workspace;
-                        localStorage.setItem("currentWorkspaceId", workspace.id);
-                    }
+                const workspaces = Array.isArray(action.payload?.workspaces) ? action.payload.workspaces : [];
+                const current = action.payload?.currentWorkspace ? normalizeWorkspace(action.payload.currentWorkspace) : null;
+
+                // Summaries from the list, with the current workspace's full details merged in
+                state.workspaces = workspaces.map(w => {
+                    const workspace = normalizeWorkspace(w);
+                    return current && w.id === current.id ? { ...workspace, ...current } : workspace;
+                });
+
+                state.currentWorkspace = current ? state.workspaces.find(w => w.id === current.id) || current : null;
+                if (state.currentWorkspace) {
+                    localStorage.setItem("currentWorkspaceId", state.currentWorkspace.id);
                 }
             })
             .addCase(fetchWorkspaces.rejected, (state, action) => {
                 state.loading = false;
                 state.error = action.payload;
+            })
+            .addCase(loadWorkspace.fulfilled, (state, action) => {
+                const summary = state.workspaces.find(w => w.id === action.payload?.id);
+                const workspace = { ...summary, ...normalizeWorkspace(action.payload) };
+                state.workspaces = state.workspaces.map(w => w.id === workspace.id ? workspace : w);
+                state.currentWorkspace = workspace;
+                localStorage.setItem("currentWorkspaceId", workspace.id);
             });
     }
 });
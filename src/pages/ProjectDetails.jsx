@@ -1,15 +1,21 @@
-import { useState, useEffect, useMemo } from "react";
+import { useState, useEffect, useMemo, useRef } from "react";
 import { useSelector, useDispatch } from "react-redux";
 import { useNavigate, useSearchParams } from "react-router-dom";
+import toast from "react-hot-toast";
 import { ArrowLeftIcon, PlusIcon, SettingsIcon, BarChart3Icon, CalendarIcon, FileStackIcon, ZapIcon } from "lucide-react";
 import ProjectAnalytics from "../components/ProjectAnalytics";
 import ProjectSettings from "../components/ProjectSettings";
 import CreateTaskDialog from "../components/CreateTaskDialog";
 import ProjectCalendar from "../components/ProjectCalendar";
 import ProjectTasks from "../components/ProjectTasks";
-import { taskAPI } from "../services/api";
+import { taskAPI, projectAPI, eventsAPI } from "../services/api";
 import { fetchWorkspaces } from "../features/workspaceSlice";
 
+// Events that change the task list; reminders (TASK_DUE_SOON, TASK_OVERDUE) leave it as it is
+const TASK_CHANGE_EVENTS = ["TASK_CREATED", "TASK_UPDATED", "TASK_DELETED"];
+const TASK_RELOAD_DELAY = 1000;
+const TASK_PAGE_SIZE = 50;
+
 export default function ProjectDetail() {
 
     const [searchParams, setSearchParams] = useSearchParams();
@@ -26,38 +32,38 @@ export default function ProjectDetail() {
     const [showCreateTask, setShowCreateTask] = useState(false);
     const [activeTab, setActiveTab] = useState(tab || "tasks");
     const [loadingTasks, setLoadingTasks] = useState(false);
+    const [nextCursor, setNextCursor] = useState(null);
+    const [loadingMore, setLoadingMore] = useState(false);
+    const [stats, setStats] = useState(null);
 
     useEffect(() => {
         if (tab) setActiveTab(tab);
     }, [tab]);
 
-    // Fetch tasks from API when component mounts or projectId changes
+    // Fetch the first page of tasks when component mounts or projectId changes; further pages are
+    // loaded on demand with the "Load more tasks" button
     useEffect(() => {
         const fetchTasksFromAPI = async () => {
             if (!id) {
                 setTasks([]);
+                setNextCursor(null);
                 return;
             }
 
             setLoadingTasks(true);
             try {
                 // Fetch tasks from API - this ensures we get the latest data from database
-                const fetchedTasks = await taskAPI.getByProject(id);
-                
-                if (Array.isArray(fetchedTasks)) {
-                    // Update local state with fetched tasks
-                    setTasks(fetchedTasks);
-                    
-                    // Also reload workspaces to sync Redux state with backend
-                    // This ensures consistency across the app
-                    await dispatch(fetchWorkspaces()).unwrap();
-                } else {
-                    // If API returns non-array, use empty array
-                    setTasks([]);
-                }
+                const page = await taskAPI.getByProject(id, { limit: TASK_PAGE_SIZE });
+                setTasks(page.items);
+                setNextCursor(page.nextCursor);
+
+                // Also reload workspaces to sync Redux state with backend
+                // This ensures consistency across the app
+                await dispatch(fetchWorkspaces()).unwrap();
             } catch (error) {
                 console.error("Error fetching tasks:", error);
                 // If API call fails, try to use tasks from Redux state as fallback
+                setNextCursor(null);
                 const projectFromRedux = currentWorkspace?.projects?.find((p) => p?.id === id);
                 if (projectFromRedux?.tasks && Array.isArray(projectFromRedux.tasks)) {
                     setTasks(projectFromRedux.tasks);
@@ -70,7 +76,87 @@ export default function ProjectDetail() {
         };
 
         fetchTasksFromAPI();
-    }, [id, dispatch, currentWorkspace]);
+        // Keyed on the workspace id: fetchWorkspaces replaces the currentWorkspace object, so
+        // depending on the object itself would refetch in a loop
+    }, [id, dispatch, currentWorkspace?.id]);
+
+    // Header counts cover the whole project, not just the pages loaded so far
+    const loadStats = async (projectId) => {
+        try {
+            setStats(await projectAPI.getStats(projectId));
+        } catch (error) {
+            console.error("Error fetching project stats:", error);
+            setStats(null);
+        }
+    };
+
+    useEffect(() => {
+        if (id) {
+            loadStats(id);
+        } else {
+            setStats(null);
+        }
+    }, [id]);
+
+    const loadMoreTasks = async () => {
+        if (!nextCursor || loadingMore) return;
+        setLoadingMore(true);
+        try {
+            const page = await taskAPI.getByProject(id, { cursor: nextCursor, limit: TASK_PAGE_SIZE });
+            setTasks((current) => [...current, ...page.items]);
+            setNextCursor(page.nextCursor);
+        } catch (error) {
+            console.error("Error loading more tasks:", error);
+            toast.error("Could not load more tasks");
+        } finally {
+            setLoadingMore(false);
+        }
+    };
+
+    const tasksRef = useRef(tasks);
+    useEffect(() => {
+        tasksRef.current = tasks;
+    }, [tasks]);
+
+    // Reload the task list when someone else changes a task in this project. Changes arrive in bursts
+    // (batch edits, several people on one board), so all events within TASK_RELOAD_DELAY share one reload.
+    // The reload asks for as many tasks as are already on screen (at least one page), so loaded pages stay loaded
+    useEffect(() => {
+        if (!id) return;
+
+        let reloadTimer = null;
+        const reloadTasks = async () => {
+            reloadTimer = null;
+            try {
+                const page = await taskAPI.getByProject(id, {
+                    limit: Math.max(tasksRef.current.length, TASK_PAGE_SIZE),
+                });
+                setTasks(page.items);
+                setNextCursor(page.nextCursor);
+            } catch (error) {
+                console.error("Error refreshing tasks:", error);
+            }
+            loadStats(id);
+        };
+
+        const unsubscribe = eventsAPI.subscribeToProject(id, (event) => {
+            if (TASK_CHANGE_EVENTS.includes(event.type)) {
+                if (!reloadTimer) reloadTimer = setTimeout(reloadTasks, TASK_RELOAD_DELAY);
+                return;
+            }
+            if (event.type === "TASK_DUE_SOON" || event.type === "TASK_OVERDUE") {
+                const task = tasksRef.current.find((t) => t.id === event.taskId);
+                if (task) {
+                    toast(event.type === "TASK_OVERDUE" ? `"${task.title}" is overdue` : `"${task.title}" is due soon`);
+                }
+            }
+        });
+
+        return () => {
+            clearTimeout(reloadTimer);
+            unsubscribe();
+        };
+    }, [id]);
 
     // Derive project and tasks from currentWorkspace using useMemo for better reactivity
     // Use a more comprehensive signature that includes task count and IDs to detect changes
@@ -124,6 +210,11 @@ export default function ProjectDetail() {
         }
     }, [normalizedProject]);
 
+    // From the project stats when they loaded, otherwise from the tasks on screen
+    const countByStatus = (...statuses) => stats
+        ? statuses.reduce((sum, status) => sum + (stats.byStatus?.[status] || 0), 0)
+        : tasks.filter((t) => statuses.includes(t.status)).length;
+
     const statusColors = {
         PLANNING: "bg-zinc-200 text-zinc-900 dark:bg-zinc-600 dark:text-zinc-200",
         ACTIVE: "bg-emerald-200 text-emerald-900 dark:bg-emerald-500 dark:text-emerald-900",
@@ -167,9 +258,9 @@ export default function ProjectDetail() {
             {/* Info Cards */}
             <div className="grid grid-cols-2 sm:flex flex-wrap gap-6">
                 {[
-                    { label: "Total Tasks", value: tasks.length, color: "text-zinc-900 dark:text-white" },
-                    { label: "Completed", value: tasks.filter((t) => t.status === "DONE").length, color: "text-emerald-700 dark:text-emerald-400" },
-                    { label: "In Progress", value: tasks.filter((t) => t.status === "IN_PROGRESS" || t.status === "TODO").length, color: "text-amber-700 dark:text-amber-400" },
+                    { label: "Total Tasks", value: stats?.totalTasks ?? tasks.length, color: "text-zinc-900 dark:text-white" },
+                    { label: "Completed", value: countByStatus("DONE"), color: "text-emerald-700 dark:text-emerald-400" },
+                    { label: "In Progress", value: countByStatus("IN_PROGRESS", "TODO"), color: "text-amber-700 dark:text-amber-400" },
                     { label: "Team Members", value: project.members?.length || 0, color: "text-blue-700 dark:text-blue-400" },
                 ].map((card, idx) => (
                     <div key={idx} className=" dark:bg-gradient-to-br dark:from-zinc-800/70 dark:to-zinc-900/50 border border-zinc-200 dark:border-zinc-800 flex justify-between sm:min-w-60 p-4 py-2.5 rounded">
@@ -206,7 +297,16 @@ export default function ProjectDetail() {
                                     <p>Loading tasks...</p>
                                 </div>
                             ) : (
-                                <ProjectTasks tasks={tasks} />
+                                <>
+                                    <ProjectTasks tasks={tasks} />
+                                    {nextCursor && (
+                                        <div className="flex justify-center py-4">
+                                            <button onClick={loadMoreTasks} disabled={loadingMore} className="px-4 py-2 text-sm rounded border border-zinc-200 dark:border-zinc-800 hover:bg-zinc-50 dark:hover:bg-zinc-800 disabled:opacity-50" >
+                                                {loadingMore ? "Loading..." : "Load more tasks"}
+                                            </button>
+                                        </div>
+                                    )}
+                                </>
                             )}
                         </div>
                     )}
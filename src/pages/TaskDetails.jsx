@@ -1,13 +1,15 @@
 import { format } from "date-fns";
 import toast from "react-hot-toast";
 import { useSelector, useDispatch } from "react-redux";
-import { useEffect, useState } from "react";
+import { useEffect, useRef, useState } from "react";
 import { useSearchParams, useNavigate } from "react-router-dom";
 import { CalendarIcon, MessageCircle, PenIcon, Trash2 } from "lucide-react";
 import { commentAPI, taskAPI } from "../services/api";
 import { deleteTask, fetchWorkspaces } from "../features/workspaceSlice";
 import { assets } from "../assets/assets";
 
+const COMMENT_PAGE_SIZE = 50;
+
 const TaskDetails = () => {
 
     const [searchParams] = useSearchParams();
@@ -18,6 +20,9 @@ const TaskDetails = () => {
     const [task, setTask] = useState(null);
     const [project, setProject] = useState(null);
     const [comments, setComments] = useState([]);
+    const [nextCursor, setNextCursor] = useState(null);
+    const [loadingMore, setLoadingMore] = useState(false);
+    const loadedComments = useRef(0);
     const [newComment, setNewComment] = useState("");
     const [loading, setLoading] = useState(true);
 
@@ -25,15 +30,39 @@ const TaskDetails = () => {
     const dispatch = useDispatch();
     const navigate = useNavigate();
 
+    // Re-reads the comments already on screen (at least one page), so polling keeps the pages
+    // loaded with "Load more comments"
     const fetchComments = async () => {
         if (!taskId) return;
         
         try {
-            const fetchedComments = await commentAPI.getByTask(taskId);
-            setComments(Array.isArray(fetchedComments) ? fetchedComments : []);
+            const page = await commentAPI.getByTask(taskId, {
+                limit: Math.max(loadedComments.current, COMMENT_PAGE_SIZE),
+            });
+            loadedComments.current = page.items.length;
+            setComments(page.items);
+            setNextCursor(page.nextCursor);
         } catch (error) {
             console.error("Error fetching comments:", error);
+            loadedComments.current = 0;
             setComments([]);
+            setNextCursor(null);
+        }
+    };
+
+    const loadMoreComments = async () => {
+        if (!nextCursor || loadingMore) return;
+        setLoadingMore(true);
+        try {
+            const page = await commentAPI.getByTask(taskId, { cursor: nextCursor, limit: COMMENT_PAGE_SIZE });
+            loadedComments.current += page.items.length;
+            setComments((current) => [...current, ...page.items]);
+            setNextCursor(page.nextCursor);
+        } catch (error) {
+            console.error("Error loading more comments:", error);
+            toast.error("Could not load more comments");
+        } finally {
+            setLoadingMore(false);
         }
     };
 
@@ -149,7 +178,7 @@ const TaskDetails = () => {
             <div className="w-full lg:w-2/3">
                 <div className="p-5 rounded-md  border border-gray-300 dark:border-zinc-800  flex flex-col lg:h-[80vh]">
                     <h2 className="text-base font-semibold flex items-center gap-2 mb-4 text-gray-900 dark:text-white">
-                        <MessageCircle className="size-5" /> Task Discussion ({comments.length})
+                        <MessageCircle className="size-5" /> Task Discussion ({comments.length}{nextCursor ? "+" : ""})
                     </h2>
 
                     <div className="flex-1 md:overflow-y-scroll no-scrollbar">
@@ -170,6 +199,11 @@ const TaskDetails = () => {
                                         </div>
                                     );
                                 })}
+                                {nextCursor && (
+                                    <button onClick={loadMoreComments} disabled={loadingMore} className="self-center px-4 py-2 text-sm rounded border border-gray-300 dark:border-zinc-700 hover:bg-gray-50 dark:hover:bg-zinc-800 disabled:opacity-50" >
+                                        {loadingMore ? "Loading..." : "Load more comments"}
+                                    </button>
+                                )}
                             </div>
                         ) : (
                             <p className="text-gray-600 dark:text-zinc-500 mb-4 text-sm">No comments yet. Be the first!</p>
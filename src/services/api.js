@@ -91,6 +91,23 @@ const apiRequest = async (endpoint, options = {}) => {
     }
 };
 
+// Reads one page of a cursor-paginated listing ({ items, nextCursor }). Pass the returned nextCursor back
+// to read the following page; limit defaults to the server's page size and is capped at MAX_PAGE_SIZE
+const MAX_PAGE_SIZE = 200;
+
+const apiRequestPage = async (endpoint, { cursor, limit } = {}) => {
+    const params = new URLSearchParams();
+    if (limit) params.set('limit', Math.min(limit, MAX_PAGE_SIZE));
+    if (cursor) params.set('cursor', cursor);
+    const query = params.toString();
+    const separator = endpoint.includes('?') ? '&' : '?';
+    const page = await apiRequest(query ? `${endpoint}${separator}${query}` : endpoint);
+    return {
+        items: Array.isArray(page?.items) ? page.items : [],
+        nextCursor: page?.nextCursor || null,
+    };
+};
+
 // Auth API
 export const authAPI = {
     login: async (email, password) => {
@@ -139,6 +156,9 @@ export const workspaceAPI = {
             body: JSON.stringify(member),
         });
     },
+    getActivity: async (workspaceId, page) => {
+        return apiRequestPage(`/workspaces/${workspaceId}/activity`, page);
+    },
 };
 
 // Project API
@@ -171,6 +191,10 @@ export const projectAPI = {
         const result = await apiRequest(`/projects/workspace/${workspaceId}`);
         return Array.isArray(result) ? result : [];
     },
+    // Task counts by status, priority and type, plus the overdue count, kept up to date by the server
+    getStats: async (id) => {
+        return apiRequest(`/projects/${id}/stats`);
+    },
     addMember: async (projectId, member) => {
         return apiRequest(`/projects/${projectId}/members`, {
             method: 'POST',
@@ -181,9 +205,14 @@ export const projectAPI = {
 
 // Task API
 export const taskAPI = {
-    getAll: async () => {
-        const result = await apiRequest('/tasks');
-        return Array.isArray(result) ? result : [];
+    // Tasks assigned to the caller; filter takes the GET /api/tasks parameters (workspaceId, status, open, dueTo, sort...)
+    getAll: async (filter = {}, page) => {
+        const params = new URLSearchParams();
+        Object.entries(filter).forEach(([key, value]) => {
+            if (value !== undefined && value !== null && value !== '') params.set(key, value);
+        });
+        const query = params.toString();
+        return apiRequestPage(query ? `/tasks?${query}` : '/tasks', page);
     },
     getById: async (id) => {
         return apiRequest(`/tasks/${id}`);
@@ -205,17 +234,15 @@ export const taskAPI = {
             method: 'DELETE',
         });
     },
-    getByProject: async (projectId) => {
-        const result = await apiRequest(`/tasks/project/${projectId}`);
-        return Array.isArray(result) ? result : [];
+    getByProject: async (projectId, page) => {
+        return apiRequestPage(`/tasks/project/${projectId}`, page);
     },
 };
 
 // Comment API
 export const commentAPI = {
-    getByTask: async (taskId) => {
-        const result = await apiRequest(`/comments/task/${taskId}`);
-        return Array.isArray(result) ? result : [];
+    getByTask: async (taskId, page) => {
+        return apiRequestPage(`/comments/task/${taskId}`, page);
     },
     create: async (taskId, comment) => {
         return apiRequest(`/comments/task/${taskId}`, {
@@ -229,3 +256,67 @@ export const commentAPI = {
         });
     },
 };
+
+// Board events API
+// EventSource cannot send an Authorization header, so each connection first exchanges the
+// session token for a short-lived stream token and passes that as a query parameter
+const BOARD_EVENT_TYPES = [
+    'TASK_CREATED',
+    'TASK_UPDATED',
+    'TASK_DELETED',
+    'TASK_DUE_SOON',
+    'TASK_OVERDUE',
+    'COMMENT_CREATED',
+    'COMMENT_DELETED',
+];
+const EVENT_STREAM_RECONNECT_DELAY = 5000;
+
+const subscribeToEvents = (endpoint, onEvent) => {
+    let source = null;
+    let reconnectTimer = null;
+    let closed = false;
+
+    const connect = async () => {
+        try {
+            const { token } = await apiRequest('/events/tokens', { method: 'POST' });
+            if (closed) return;
+            source = new EventSource(`${API_BASE_URL}${endpoint}?access_token=${encodeURIComponent(token)}`);
+            BOARD_EVENT_TYPES.forEach((type) => {
+                source.addEventListener(type, (event) => {
+                    onEvent(JSON.parse(event.data));
+                });
+            });
+            // The stream token has expired by the time the browser would retry on its own, so
+            // reconnect with a fresh one instead
+            source.onerror = () => {
+                source.close();
+                scheduleReconnect();
+            };
+        } catch (error) {
+            console.error('Error subscribing to events:', error);
+            scheduleReconnect();
+        }
+    };
+
+    const scheduleReconnect = () => {
+        if (closed) return;
+        reconnectTimer = setTimeout(connect, EVENT_STREAM_RECONNECT_DELAY);
+    };
+
+    connect();
+
+    return () => {
+        closed = true;
+        clearTimeout(reconnectTimer);
+        if (source) source.close();
+    };
+};
+
+export const eventsAPI = {
+    subscribeToProject: (projectId, onEvent) => {
+        return subscribeToEvents(`/events/projects/${projectId}`, onEvent);
+    },
+    subscribeToWorkspace: (workspaceId, onEvent) => {
+        return subscribeToEvents(`/events/workspaces/${workspaceId}`, onEvent);
+    },
+};